@@ -54,7 +54,7 @@ public class AllInstancesAnnotationHandler extends TypeSafeAnnotationHandler<All
         ResolutionType resolutionType = context.getIdentifier().getResolutionType();
         List<ObjectIdentifier> dependencies = subTypes.stream()
             .filter(InjectorUtils::canInstantiate)
-            .map(clazz -> new ObjectIdentifier(resolutionType, clazz))
+            .map(clazz -> ObjectIdentifier.of(resolutionType, clazz))
             .collect(Collectors.toList());
         return new AllInstancesInstantiation(rawType, dependencies);
     }
@@ -1,9 +1,16 @@
 package ch.jalu.injector;
 
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.factory.AsyncProvider;
+import ch.jalu.injector.graph.DependencyGraph;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+
 import javax.annotation.Nullable;
 import javax.inject.Provider;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Dependency injector.
@@ -12,7 +19,7 @@ import java.util.Collection;
  * and executes methods annotated with {@code @PostConstruct}. You can obtain an injector and customize its behavior
  * with the {@link InjectorBuilder}.
  */
-public interface Injector {
+public interface Injector extends AutoCloseable {
 
     /**
      * Registers an object as instance of the given class.
@@ -24,6 +31,20 @@ public interface Injector {
      */
     <T> void register(Class<? super T> clazz, T object);
 
+    /**
+     * Registers an object as instance of the given class with the given {@link javax.inject.Qualifier qualifier}.
+     * The object is injected wherever the class is requested with an equal qualifier annotation, e.g. the same
+     * {@link javax.inject.Named @Named} value; multiple objects of the same class may be registered with
+     * different qualifiers. Use {@link ch.jalu.injector.utils.Qualifiers} to create qualifier annotations.
+     *
+     * @param clazz the class to register the object for
+     * @param qualifier the qualifier annotation
+     * @param object the object
+     * @param <T> the type to register the object for
+     * @since 0.5
+     */
+    <T> void register(Class<? super T> clazz, Annotation qualifier, T object);
+
     /**
      * Registers a provider for the given object.
      *
@@ -66,6 +87,21 @@ public interface Injector {
      */
     <T> T getSingleton(Class<T> clazz);
 
+    /**
+     * Retrieves the object registered for the given class and {@link javax.inject.Qualifier qualifier}. If no object
+     * was registered with the qualifier, the handlers may still resolve the request (e.g. to a configuration value);
+     * a new singleton is only created for the qualifier if
+     * {@link InjectorBuilder#setAllowUnboundQualifiers unbound qualifiers are allowed}, and is kept separately from
+     * the unqualified singleton of the class. Otherwise, an exception is thrown.
+     *
+     * @param clazz the class to retrieve the value for
+     * @param qualifier the qualifier annotation
+     * @param <T> the class' type
+     * @return object of the class' type
+     * @since 0.5
+     */
+    <T> T getSingleton(Class<T> clazz, Annotation qualifier);
+
     /**
      * Request-scoped method to instantiate a new object of the given class. The injector does <i>not</i> keep track
      * of it afterwards; it will always return a new instance and forget about it.
@@ -77,9 +113,47 @@ public interface Injector {
      */
     <T> T newInstance(Class<T> clazz);
 
+    /**
+     * Returns a provider of new instances of the given class (request scope). The class is resolved
+     * the first time {@link Provider#get()} is called; subsequent calls reuse the resolution and its
+     * singleton dependencies, so that they only create the object and process it with the post construct handlers.
+     *
+     * @param clazz the class to create a provider for
+     * @param <T> the class' type
+     * @return provider of new instances of the class
+     * @since 0.5
+     */
+    <T> Provider<T> getProvider(Class<T> clazz);
+
+    /**
+     * Returns a provider creating new instances of the given class asynchronously on the injector's
+     * {@link InjectorBuilder#setAsyncExecutor async executor}. Instances are created as with
+     * {@link #getProvider(Class)}.
+     *
+     * @param clazz the class to create a provider for
+     * @param <T> the class' type
+     * @return async provider of new instances of the class
+     * @since 0.5
+     */
+    <T> AsyncProvider<T> getAsyncProvider(Class<T> clazz);
+
+    /**
+     * Returns the singleton of the given class, once it is fully initialized. The singleton is created
+     * synchronously like with {@link #getSingleton}, but handlers may initialize objects asynchronously
+     * (see {@link ch.jalu.injector.handlers.postconstruct.AsyncPostConstructMethodInvoker}). The returned
+     * future completes when all handlers have finished initializing the singleton.
+     *
+     * @param clazz the class to get the singleton for
+     * @param <T> the class' type
+     * @return future of the initialized singleton
+     * @since 0.5
+     */
+    <T> CompletableFuture<T> getSingletonAsync(Class<T> clazz);
+
     /**
      * Returns an instance of the given class if available. This simply returns the instance if present and
-     * otherwise {@code null}. Calling this method will not instantiate anything.
+     * otherwise {@code null}. Calling this method will not instantiate anything. It is safe to call from multiple
+     * threads, also while objects are being registered, and does not acquire any locks.
      *
      * @param clazz the class to retrieve the instance for
      * @param <T> the class' type
@@ -89,12 +163,25 @@ public interface Injector {
     @Nullable
     <T> T getIfAvailable(Class<T> clazz);
 
+    /**
+     * Returns the singleton bound to the given key if available, as {@link #getIfAvailable(Class)} does for classes.
+     * Keys of generic types for which no singleton is known fall back to the singleton of the raw type.
+     *
+     * @param key the key to retrieve the singleton for
+     * @return singleton or null if none available
+     * @since 0.5
+     */
+    @Nullable
+    Object getIfAvailable(BindingKey key);
+
     /**
      * Creates an instance of the given class if all of its dependencies are available. A new instance
      * is returned each time and the created object is not stored in the injector.
      * <p>
-     * <b>Note:</b> Currently, all dependencies of the class need to be registered singletons for a new
-     * instance to be created. This limitation may be lifted in future versions.
+     * A dependency is available if it is an existing singleton, or if it can be supplied without instantiating
+     * anything, e.g. a provided annotation value or a provider. The availability of the dependencies is checked
+     * as with {@link #areDependenciesAvailable(Class, boolean)} before anything is resolved, so that no work is
+     * done for classes whose dependencies are missing.
      *
      * @param clazz the class to construct if possible
      * @param <T> the class' type
@@ -103,6 +190,23 @@ public interface Injector {
     @Nullable
     <T> T createIfHasDependencies(Class<T> clazz);
 
+    /**
+     * Returns whether all dependencies of the given class are available, i.e. whether
+     * {@link #createIfHasDependencies} would create an instance of it. Nothing is instantiated by this method.
+     * <p>
+     * If {@code includeConstructible} is true, dependencies which do not exist yet but which the injector can
+     * create are considered available as well, provided their own dependencies are available transitively.
+     * The dependencies of each class are determined once and kept, so that repeated checks usually only cost
+     * one lookup per dependency. As when creating the class, an exception is thrown if no handler can resolve
+     * the class or one of the dependencies that are checked.
+     *
+     * @param clazz the class whose dependencies should be checked
+     * @param includeConstructible whether dependencies that can be instantiated are considered available
+     * @return true if all dependencies are available, false otherwise
+     * @since 0.5
+     */
+    boolean areDependenciesAvailable(Class<?> clazz, boolean includeConstructible);
+
     /**
      * Returns all known singletons of the given type. Typically used
      * with interfaces in order to perform an action without knowing its concrete implementors.
@@ -115,4 +219,54 @@ public interface Injector {
      */
     <T> Collection<T> retrieveAllOfType(Class<T> clazz);
 
-}
\ No newline at end of file
+    /**
+     * Returns the graph of the singletons known to the injector, with the singleton dependencies each singleton
+     * was created with.
+     *
+     * @return the dependency graph of the singletons
+     * @since 0.5
+     */
+    DependencyGraph getDependencyGraph();
+
+    /**
+     * Discards the resolutions the injector has remembered for its handlers, such as which handlers declined
+     * a dependency. Handlers with {@link ch.jalu.injector.handlers.Handler#hasStableResolutions() stable resolutions}
+     * call this method when a change to their configuration may let them resolve previously declined dependencies.
+     *
+     * @since 0.5
+     */
+    void clearResolutionCaches();
+
+    /**
+     * Passes an object which was constructed outside of the injector, e.g. by an
+     * {@link ch.jalu.injector.factory.AssistedFactory assisted factory}, to the handlers' post construct and
+     * instantiation methods, as if the injector had instantiated it with the given resolution.
+     *
+     * @param object the constructed object
+     * @param context the context the object was constructed for
+     * @param resolution the resolution defining the object's dependencies
+     * @param constructionNanos time in nanoseconds it took to construct the object
+     * @param <T> the object's type
+     * @return the object to use (as post construct methods may change it)
+     * @since 0.5
+     */
+    <T> T processConstructedObject(T object, ResolutionContext context, Resolution<?> resolution,
+                                   long constructionNanos);
+
+    /**
+     * Destroys all singletons created by the injector by running the handlers' pre destroy method on them,
+     * such as {@link javax.annotation.PreDestroy} methods. Singletons are destroyed in reverse dependency order;
+     * singletons which do not depend on each other are destroyed in parallel. Objects that were registered
+     * into the injector are not destroyed.
+     * <p>
+     * The injector waits for the singletons to be destroyed up to the timeout set in
+     * {@link InjectorBuilder#setShutdownTimeout}. The injector should not be used after it has been closed;
+     * subsequent calls to this method have no effect. The default {@link InjectorBuilder#setAsyncExecutor async
+     * executor} is shut down if the injector created it; executors set on the builder are not shut down.
+     *
+     * @since 0.5
+     */
+    @Override
+    void close();
+
+}
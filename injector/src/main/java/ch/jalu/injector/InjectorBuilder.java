@@ -1,12 +1,14 @@
 package ch.jalu.injector;
 
 import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.dependency.AssistedFactoryDependencyHandler;
 import ch.jalu.injector.handlers.dependency.CyclicDependenciesDetector;
 import ch.jalu.injector.handlers.dependency.FactoryDependencyHandler;
 import ch.jalu.injector.handlers.dependency.SavedAnnotationsHandler;
 import ch.jalu.injector.handlers.dependency.SingletonStoreDependencyHandler;
 import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
 import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
+import ch.jalu.injector.handlers.predestroy.PreDestroyMethodInvoker;
 import ch.jalu.injector.handlers.instantiation.ProviderHandler;
 import ch.jalu.injector.utils.InjectorUtils;
 
@@ -14,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configures and creates an {@link Injector}.
@@ -41,15 +45,17 @@ public class InjectorBuilder {
         return new ArrayList<>(Arrays.asList(
             // (Annotation, Object) handler
             new SavedAnnotationsHandler(),
-            // Provider / Factory / SingletonStore
+            // Provider / Factory / AssistedFactory / SingletonStore
             new ProviderHandler(),
             new FactoryDependencyHandler(),
+            new AssistedFactoryDependencyHandler(),
             new SingletonStoreDependencyHandler(),
             // Instantiation provider
             new CyclicDependenciesDetector(),
             new DefaultInjectionProvider(rootPackage),
-            // PostConstruct
-            new PostConstructMethodInvoker()));
+            // PostConstruct / PreDestroy
+            new PostConstructMethodInvoker(),
+            new PreDestroyMethodInvoker()));
     }
 
     /**
@@ -66,6 +72,7 @@ public class InjectorBuilder {
         return new ArrayList<>(Arrays.asList(
             new ProviderHandler(),
             new FactoryDependencyHandler(),
+            new AssistedFactoryDependencyHandler(),
             new SingletonStoreDependencyHandler(),
             new DefaultInjectionProvider(rootPackage)));
     }
@@ -107,6 +114,46 @@ public class InjectorBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum time {@link Injector#close()} waits for the singletons to be destroyed.
+     * Defaults to {@link InjectorConfig#DEFAULT_SHUTDOWN_TIMEOUT_MILLIS} milliseconds.
+     *
+     * @param timeout the timeout
+     * @param unit the unit of the timeout
+     * @return the builder
+     */
+    public InjectorBuilder setShutdownTimeout(long timeout, TimeUnit unit) {
+        config.setShutdownTimeoutMillis(unit.toMillis(timeout));
+        return this;
+    }
+
+    /**
+     * Sets the executor on which objects are created by {@link Injector#getAsyncProvider async providers} and
+     * {@link ch.jalu.injector.factory.Factory#newInstanceAsync factories}. Defaults to virtual threads if the
+     * Java version supports them, and to the common fork join pool otherwise.
+     *
+     * @param executor the executor to use
+     * @return the builder
+     */
+    public InjectorBuilder setAsyncExecutor(Executor executor) {
+        config.setAsyncExecutor(executor);
+        return this;
+    }
+
+    /**
+     * Sets whether the injector may create singletons for {@link javax.inject.Qualifier qualified} requests for which
+     * no object was registered with {@link Injector#register(Class, java.lang.annotation.Annotation, Object)}.
+     * If allowed, the injector creates a separate singleton per qualifier, distinct from the unqualified singleton
+     * of the same type. Otherwise (the default), such requests fail with an exception.
+     *
+     * @param allowUnboundQualifiers true to create singletons for unbound qualifiers, false to fail for them
+     * @return the builder
+     */
+    public InjectorBuilder setAllowUnboundQualifiers(boolean allowUnboundQualifiers) {
+        config.setAllowUnboundQualifiers(allowUnboundQualifiers);
+        return this;
+    }
+
     /**
      * Creates an injector with the configurations set to the builder.
      *
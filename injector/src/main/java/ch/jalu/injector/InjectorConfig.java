@@ -3,16 +3,29 @@ package ch.jalu.injector;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.utils.InjectorUtils;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Injector configuration.
  */
 public class InjectorConfig {
 
+    /** Default time to wait for singletons to be destroyed when the injector is closed. */
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
     private List<Handler> handlers = new ArrayList<>();
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+    private volatile Executor asyncExecutor;
+    @Nullable
+    private ExecutorService createdAsyncExecutor;
+    private boolean allowUnboundQualifiers;
 
     /**
      * Use the {@link InjectorBuilder} instead of instantiating this.
@@ -28,4 +41,72 @@ public class InjectorConfig {
     public List<Handler> getHandlers() {
         return handlers;
     }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        InjectorUtils.checkArgument(shutdownTimeoutMillis > 0, "Shutdown timeout must be positive");
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    /**
+     * Returns the executor on which objects are created asynchronously. If none was set, an executor starting
+     * a virtual thread per task is used on Java versions supporting virtual threads; otherwise, the common
+     * fork join pool is used. The default executor is created only once, also if requested concurrently.
+     *
+     * @return the executor for asynchronous instantiations
+     */
+    public Executor getAsyncExecutor() {
+        Executor executor = asyncExecutor;
+        return executor == null ? getOrCreateDefaultAsyncExecutor() : executor;
+    }
+
+    public synchronized void setAsyncExecutor(Executor asyncExecutor) {
+        InjectorUtils.checkNotNull(asyncExecutor, "Executor may not be null");
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Shuts down the async executor if it was created by this config, i.e. if the default virtual thread executor
+     * is in use. Executors that were set explicitly are left untouched, as they are owned by the caller.
+     */
+    public synchronized void shutDownCreatedAsyncExecutor() {
+        if (createdAsyncExecutor != null && createdAsyncExecutor == asyncExecutor) {
+            createdAsyncExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Returns whether singletons may be created for {@link javax.inject.Qualifier qualified} requests for which no
+     * object was registered. If not allowed (the default), such requests fail with an exception.
+     *
+     * @return true if unbound qualifiers are allowed, false otherwise
+     */
+    public boolean isAllowUnboundQualifiers() {
+        return allowUnboundQualifiers;
+    }
+
+    public void setAllowUnboundQualifiers(boolean allowUnboundQualifiers) {
+        this.allowUnboundQualifiers = allowUnboundQualifiers;
+    }
+
+    private synchronized Executor getOrCreateDefaultAsyncExecutor() {
+        if (asyncExecutor == null) {
+            createdAsyncExecutor = createVirtualThreadExecutor();
+            asyncExecutor = createdAsyncExecutor == null ? ForkJoinPool.commonPool() : createdAsyncExecutor;
+        }
+        return asyncExecutor;
+    }
+
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            // Java 21+: virtual threads; looked up reflectively as the library targets Java 8
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
 }
@@ -1,22 +1,40 @@
 package ch.jalu.injector;
 
+import ch.jalu.injector.annotations.Reclaimable;
+import ch.jalu.injector.context.BindingKey;
 import ch.jalu.injector.context.ObjectIdentifier;
 import ch.jalu.injector.context.ResolutionContext;
 import ch.jalu.injector.context.ResolutionType;
 import ch.jalu.injector.context.StandardResolutionType;
 import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.factory.AsyncProvider;
+import ch.jalu.injector.graph.DependencyGraph;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.lifecycle.SingletonDestroyer;
 import ch.jalu.injector.utils.InjectorUtils;
 
 import javax.annotation.Nullable;
 import javax.inject.Provider;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
 import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED_IF_HAS_DEPENDENCIES;
@@ -28,11 +46,30 @@ import static ch.jalu.injector.utils.InjectorUtils.rethrowException;
 
 /**
  * Implementation of {@link Injector}.
+ * <p>
+ * The injector may be used from multiple threads. Singletons are created while holding a reentrant lock, which
+ * guarantees that each singleton (along with its singleton dependencies) is only constructed once, even if it is
+ * requested concurrently. As the lock is not a monitor ({@code synchronized}), virtual threads waiting for a
+ * singleton to be created do not pin their carrier thread.
+ * <p>
+ * Singletons that already exist are retrieved without any locking: {@link #getIfAvailable} and requests for
+ * existing singletons only read from concurrent maps, so they neither block nor contend with each other or with
+ * registrations, and registered objects are safely published to all threads.
  */
 public class InjectorImpl implements Injector {
 
-    protected Map<Class<?>, Object> objects;
+    private static final Object[] NO_DEPENDENCIES = new Object[0];
+
+    protected final Map<Class<?>, Object> objects = new ConcurrentHashMap<>();
+    protected final Map<Class<?>, Reference<Object>> reclaimableObjects = new ConcurrentHashMap<>();
+    protected final Map<BindingKey, Object> keyedObjects = new ConcurrentHashMap<>();
     protected InjectorConfig config;
+    protected final ReentrantLock singletonLock = new ReentrantLock();
+    protected final DependencyGraph dependencyGraph = new DependencyGraph();
+    private final Map<ObjectIdentifier, DeclinedHandlers> declinedHandlers = new ConcurrentHashMap<>();
+    private final Map<ObjectIdentifier, DependencyDescriptor> dependencyDescriptors = new ConcurrentHashMap<>();
+    private final AtomicInteger resolutionCacheVersion = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     /**
      * Constructor.
@@ -42,22 +79,35 @@ public class InjectorImpl implements Injector {
      */
     protected InjectorImpl(InjectorConfig config) {
         this.config = config;
-        this.objects = new HashMap<>();
         this.objects.put(Injector.class, this);
+        this.dependencyGraph.addRegisteredSingleton(BindingKey.of(Injector.class));
     }
 
     @Override
     public <T> void register(Class<? super T> clazz, T object) {
-        if (objects.containsKey(clazz)) {
+        checkNotNull(object);
+        if (objects.putIfAbsent(clazz, object) != null) {
             throw new InjectorException("There is already an object present for " + clazz);
         }
+        dependencyGraph.addRegisteredSingleton(BindingKey.of(clazz));
+    }
+
+    @Override
+    public <T> void register(Class<? super T> clazz, Annotation qualifier, T object) {
+        checkNotNull(clazz, "Class may not be null");
+        checkNotNull(qualifier, "Qualifier may not be null");
         checkNotNull(object);
-        objects.put(clazz, object);
+        BindingKey key = BindingKey.of(clazz, qualifier);
+        if (keyedObjects.putIfAbsent(key, object) != null) {
+            throw new InjectorException("There is already an object present for " + key);
+        }
+        dependencyGraph.addRegisteredSingleton(key);
     }
 
     @Override
     public void provide(Class<? extends Annotation> clazz, Object object) {
         checkNotNull(clazz, "Provided annotation may not be null");
+        clearResolutionCaches();
         try {
             for (Handler handler : config.getHandlers()) {
                 handler.onAnnotation(clazz, object);
@@ -72,19 +122,85 @@ public class InjectorImpl implements Injector {
         return resolve(SINGLETON, clazz);
     }
 
+    @Override
+    public <T> T getSingleton(Class<T> clazz, Annotation qualifier) {
+        checkNotNull(qualifier, "Qualifier may not be null");
+        Object qualifiedSingleton = keyedObjects.get(BindingKey.of(clazz, qualifier));
+        if (qualifiedSingleton != null) {
+            runDirectRequestHandlers(qualifiedSingleton);
+            return clazz.cast(qualifiedSingleton);
+        }
+        return clazz.cast(resolveDirectRequest(
+            new ResolutionContext(this, ObjectIdentifier.of(SINGLETON, clazz, qualifier))));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getSingletonAsync(Class<T> clazz) {
+        final T object;
+        try {
+            // Not resolved as direct request, as handlers may block until the object is initialized
+            object = clazz.cast(resolveContext(new ResolutionContext(this, ObjectIdentifier.of(SINGLETON, clazz))));
+        } catch (InjectorException e) {
+            CompletableFuture<T> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(e);
+            return failedFuture;
+        }
+
+        List<CompletableFuture<?>> initializations = new ArrayList<>();
+        for (Handler handler : config.getHandlers()) {
+            CompletableFuture<?> initialization = handler.getInitialization(object);
+            if (initialization != null) {
+                initializations.add(initialization);
+            }
+        }
+        return initializations.isEmpty()
+            ? CompletableFuture.completedFuture(object)
+            : CompletableFuture.allOf(initializations.toArray(new CompletableFuture<?>[0])).thenApply(v -> object);
+    }
+
     @Override
     public <T> T newInstance(Class<T> clazz) {
         return resolve(REQUEST_SCOPED, clazz);
     }
 
+    @Override
+    public <T> Provider<T> getProvider(Class<T> clazz) {
+        checkNotNull(clazz, "Class may not be null");
+        return new ResolvedInstanceProvider<>(this, clazz);
+    }
+
+    @Override
+    public <T> AsyncProvider<T> getAsyncProvider(Class<T> clazz) {
+        Provider<T> provider = getProvider(clazz);
+        Executor executor = config.getAsyncExecutor();
+        return () -> CompletableFuture.supplyAsync(provider::get, executor);
+    }
+
     @Override
     public <T> T getIfAvailable(Class<T> clazz) {
-        return clazz.cast(objects.get(clazz));
+        return clazz.cast(getKnownSingleton(clazz));
     }
 
     @Override
+    public Object getIfAvailable(BindingKey key) {
+        checkNotNull(key, "Key may not be null");
+        return getKnownSingleton(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public <T> T createIfHasDependencies(Class<T> clazz) {
-        return resolve(REQUEST_SCOPED_IF_HAS_DEPENDENCIES, clazz);
+        ResolutionContext context =
+            new ResolutionContext(this, ObjectIdentifier.of(REQUEST_SCOPED_IF_HAS_DEPENDENCIES, clazz));
+        return hasAvailableDependencies(context, false) ? (T) resolveDirectRequest(context) : null;
+    }
+
+    @Override
+    public boolean areDependenciesAvailable(Class<?> clazz, boolean includeConstructible) {
+        checkNotNull(clazz, "Class may not be null");
+        return hasAvailableDependencies(
+            new ResolutionContext(this, ObjectIdentifier.of(REQUEST_SCOPED_IF_HAS_DEPENDENCIES, clazz)),
+            includeConstructible);
     }
 
     @Override
@@ -95,6 +211,17 @@ public class InjectorImpl implements Injector {
                 instances.add(clazz.cast(object));
             }
         }
+        for (Object object : keyedObjects.values()) {
+            if (clazz.isInstance(object)) {
+                instances.add(clazz.cast(object));
+            }
+        }
+        for (Reference<Object> reference : reclaimableObjects.values()) {
+            Object object = reference.get();
+            if (clazz.isInstance(object)) {
+                instances.add(clazz.cast(object));
+            }
+        }
         return instances;
     }
 
@@ -102,6 +229,7 @@ public class InjectorImpl implements Injector {
     public <T> void registerProvider(Class<T> clazz, Provider<? extends T> provider) {
         checkNotNull(clazz, "Class may not be null");
         checkNotNull(provider, "Provider may not be null");
+        clearResolutionCaches();
         try {
             for (Handler handler : config.getHandlers()) {
                 handler.onProvider(clazz, provider);
@@ -115,6 +243,7 @@ public class InjectorImpl implements Injector {
     public <T, P extends Provider<? extends T>> void registerProvider(Class<T> clazz, Class<P> providerClass) {
         checkNotNull(clazz, "Class may not be null");
         checkNotNull(providerClass, "Provider class may not be null");
+        clearResolutionCaches();
         try {
             for (Handler handler : config.getHandlers()) {
                 handler.onProviderClass(clazz, providerClass);
@@ -124,18 +253,76 @@ public class InjectorImpl implements Injector {
         }
     }
 
+    @Override
+    public DependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    @Override
+    public <T> T processConstructedObject(T object, ResolutionContext context, Resolution<?> resolution,
+                                          long constructionNanos) {
+        checkNotNull(object, "Object may not be null");
+        final long start = System.nanoTime();
+        T processedObject = runPostConstructHandlers(object, context, resolution);
+        runInstantiationHandlers(processedObject, context, constructionNanos + System.nanoTime() - start);
+        return processedObject;
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "injector-shutdown");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            new SingletonDestroyer(this, executor)
+                .destroy(this::runPreDestroyHandlers, config.getShutdownTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+            config.shutDownCreatedAsyncExecutor();
+        }
+    }
+
     public InjectorConfig getConfig() {
         return config;
     }
 
     @SuppressWarnings("unchecked")
     private <T> T resolve(ResolutionType resolutionType, Class<?> clazz) {
-        return (T) resolveContext(
-            new ResolutionContext(this, new ObjectIdentifier(resolutionType, clazz)));
+        return (T) resolveDirectRequest(
+            new ResolutionContext(this, ObjectIdentifier.of(resolutionType, clazz)));
+    }
+
+    /**
+     * Resolves the given context of an object that is requested directly from the injector and passes the
+     * object to the handlers' {@link Handler#onDirectRequest} once it has been resolved.
+     *
+     * @param context the context to resolve the object for
+     * @return the resolved object, {@code null} if the context specifies it is optional and some criteria is not met
+     */
+    @Nullable
+    private Object resolveDirectRequest(ResolutionContext context) {
+        Object object = resolveContext(context);
+        if (object != null) {
+            runDirectRequestHandlers(object);
+        }
+        return object;
     }
 
     /**
      * Returns the object as defined by the given context.
+     * <p>
+     * Singleton requests with a {@link javax.inject.Qualifier qualifier} annotation are looked up among the
+     * qualified objects with a single lookup by {@link BindingKey}. If no object is known for the qualifier, the
+     * request is resolved by the handlers; an instantiation is only allowed if the injector is configured to
+     * {@link InjectorConfig#isAllowUnboundQualifiers allow unbound qualifiers}. Singletons of fully specified
+     * generic types, such as {@code Cache<User>}, are stored by their canonical generic type, separately from the
+     * raw class.
      *
      * @param context the context to resolve the object for
      * @return the resolved object, {@code null} if the context specifies it is optional and some criteria is not met
@@ -144,30 +331,167 @@ public class InjectorImpl implements Injector {
     protected Object resolveContext(ResolutionContext context) {
         // TODO #49: Convert singleton store to a Handler impl.
         if (context.getIdentifier().getResolutionType() == StandardResolutionType.SINGLETON) {
-            Object knownSingleton = objects.get(context.getIdentifier().getTypeAsClass());
+            Object knownSingleton = getKnownSingleton(context.getIdentifier().getBindingKey());
             if (knownSingleton != null) {
                 return knownSingleton;
             }
+            return resolveSingletonContext(context);
+        }
+        return createObject(context);
+    }
+
+    /**
+     * Returns the singleton registered for the given key, if available. Qualified keys do not fall back to the
+     * singleton of the same type without qualifier. Keys of generic types fall back to the singleton of the raw
+     * type (with the same qualifier), so an object registered as {@code Repo} is also used for {@code Repo<User>}.
+     *
+     * @param key the key to get the singleton for
+     * @return the singleton, or null if not available
+     */
+    @Nullable
+    private Object getKnownSingleton(BindingKey key) {
+        if (key.isGeneric()) {
+            Object genericSingleton = keyedObjects.get(key);
+            return genericSingleton == null ? getKnownSingleton(key.getRawKey()) : genericSingleton;
+        }
+        return key.isQualified()
+            ? keyedObjects.get(key)
+            : getKnownSingleton(key.getRawType());
+    }
+
+    /**
+     * Returns the singleton registered for the given class, if available. Singletons of {@link Reclaimable}
+     * classes are only returned if they have not been garbage collected.
+     *
+     * @param clazz the class to get the singleton for
+     * @return the singleton, or null if not available
+     */
+    @Nullable
+    private Object getKnownSingleton(Class<?> clazz) {
+        Object singleton = objects.get(clazz);
+        if (singleton == null) {
+            Reference<Object> reference = reclaimableObjects.get(clazz);
+            return reference == null ? null : reference.get();
         }
+        return singleton;
+    }
 
+    /**
+     * Resolves the given singleton context while holding the singleton lock, so that the singleton is
+     * only created once if it is requested concurrently.
+     *
+     * @param context the context to resolve the singleton for
+     * @return the resolved object
+     */
+    @Nullable
+    private Object resolveSingletonContext(ResolutionContext context) {
+        singletonLock.lock();
+        try {
+            // Check again as the singleton may have been created while we were waiting for the lock
+            Object knownSingleton = getKnownSingleton(context.getIdentifier().getBindingKey());
+            return knownSingleton == null ? createObject(context) : knownSingleton;
+        } finally {
+            singletonLock.unlock();
+        }
+    }
+
+    /**
+     * Resolves the object of the given context with the handlers and creates it if needed. Instantiated objects
+     * are registered if the context is of singleton scope.
+     *
+     * @param context the context to resolve the object for
+     * @return the resolved object, {@code null} if the context specifies it is optional and some criteria is not met
+     */
+    @Nullable
+    private Object createObject(ResolutionContext context) {
         Resolution<?> resolution = findResolutionOrFail(context);
         if (isContextChildOfOptionalRequest(context) && resolution.isInstantiation()) {
             return null;
         }
+        if (resolution.isInstantiation() && context.getIdentifier().getResolutionType() == SINGLETON) {
+            checkIsBoundIfQualified(context.getOriginalIdentifier().getBindingKey());
+        }
 
         Object[] resolvedDependencies = resolveDependencies(context, resolution);
         if (containsNullValue(resolvedDependencies)) {
             throwForUnexpectedNullDependency(context);
             return null;
         }
+        return createObject(context, resolution, resolvedDependencies);
+    }
 
+    /**
+     * Creates the object of the given resolution with the resolved dependencies and runs the post construct
+     * handlers on it. Instantiated objects are passed to the instantiation handlers and are registered if the
+     * context is of singleton scope.
+     *
+     * @param context the context the object is created for
+     * @param resolution the resolution of the context
+     * @param resolvedDependencies the dependencies of the resolution, none of which is null
+     * @return the created object
+     */
+    Object createObject(ResolutionContext context, Resolution<?> resolution, Object[] resolvedDependencies) {
+        final long start = System.nanoTime();
         Object object = runPostConstructHandlers(resolution.instantiateWith(resolvedDependencies), context, resolution);
-        if (resolution.isInstantiation() && context.getIdentifier().getResolutionType() == SINGLETON) {
-            register((Class) context.getOriginalIdentifier().getTypeAsClass(), object);
+        if (resolution.isInstantiation()) {
+            final long nanos = System.nanoTime() - start;
+            runInstantiationHandlers(object, context, nanos);
+            if (context.getIdentifier().getResolutionType() == SINGLETON) {
+                registerSingleton(context.getOriginalIdentifier().getBindingKey(), object, resolution, nanos);
+            }
         }
         return object;
     }
 
+    /**
+     * Throws an exception if the given key has a qualifier, unless the injector is configured to create singletons
+     * for qualifiers with no registered object. Otherwise, a qualified request would silently get a new object of
+     * the type, unrelated to the objects registered for the type's qualifiers.
+     *
+     * @param key the key of the singleton to be created
+     */
+    private void checkIsBoundIfQualified(BindingKey key) {
+        if (key.isQualified() && !config.isAllowUnboundQualifiers()) {
+            throw new InjectorException("No object is bound to " + key + ". Register an object with the qualifier, "
+                + "or allow unbound qualifiers in the injector builder");
+        }
+    }
+
+    /**
+     * Registers a singleton that was created by the injector and records it in the dependency graph.
+     *
+     * @param key the key to register the object for
+     * @param object the singleton
+     * @param resolution the resolution the singleton was created with
+     * @param constructionNanos time in nanoseconds it took to instantiate the object and run its post construct
+     */
+    private void registerSingleton(BindingKey key, Object object, Resolution<?> resolution, long constructionNanos) {
+        if (key.isQualified() || key.isGeneric()) {
+            if (keyedObjects.putIfAbsent(key, object) != null) {
+                throw new InjectorException("There is already an object present for " + key);
+            }
+            dependencyGraph.addInstantiatedSingleton(key, resolution.getDependencies(), constructionNanos);
+            return;
+        }
+
+        Class<?> clazz = key.getRawType();
+        Reclaimable reclaimable = object.getClass().getAnnotation(Reclaimable.class);
+        if (reclaimable != null) {
+            Reference<Object> reference = reclaimable.value() == Reclaimable.Strength.WEAK
+                ? new WeakReference<>(object)
+                : new SoftReference<>(object);
+            Reference<Object> previous = reclaimableObjects.putIfAbsent(clazz, reference);
+            // A previous singleton may only be replaced if it has been garbage collected
+            if (previous != null
+                && (previous.get() != null || !reclaimableObjects.replace(clazz, previous, reference))) {
+                throw new InjectorException("There is already an object present for " + clazz);
+            }
+        } else if (objects.putIfAbsent(clazz, object) != null) {
+            throw new InjectorException("There is already an object present for " + clazz);
+        }
+        dependencyGraph.addInstantiatedSingleton(key, resolution.getDependencies(), constructionNanos);
+    }
+
     /**
      * Resolves the dependencies as defined by the given resolution.
      * If a dependency is resolved to {@code null}, the process is aborted and the remaining dependencies
@@ -178,17 +502,26 @@ public class InjectorImpl implements Injector {
      * @return array with the dependencies, in the same order as given by the resolution
      */
     protected Object[] resolveDependencies(ResolutionContext context, Resolution<?> resolution) {
-        final int totalDependencies = resolution.getDependencies().size();
+        final List<ObjectIdentifier> dependencies = resolution.getDependencies();
+        final int totalDependencies = dependencies.size();
+        if (totalDependencies == 0) {
+            return NO_DEPENDENCIES;
+        }
         final Object[] resolvedDependencies = new Object[totalDependencies];
 
-        int index = 0;
-        for (ObjectIdentifier dependencyId : resolution.getDependencies()) {
-            Object dependency = resolveContext(context.createChildContext(dependencyId));
+        for (int index = 0; index < totalDependencies; ++index) {
+            ObjectIdentifier dependencyId = dependencies.get(index);
+            // Existing singletons are taken directly so that no child context has to be created for them
+            Object dependency = dependencyId.getResolutionType() == SINGLETON
+                ? getKnownSingleton(dependencyId.getBindingKey())
+                : null;
             if (dependency == null) {
-                break;
+                dependency = resolveContext(context.createChildContext(dependencyId));
+                if (dependency == null) {
+                    break;
+                }
             }
             resolvedDependencies[index] = dependency;
-            ++index;
         }
         return resolvedDependencies;
     }
@@ -210,29 +543,75 @@ public class InjectorImpl implements Injector {
     }
 
     private static boolean isContextChildOfOptionalRequest(ResolutionContext context) {
-        return !context.getParents().isEmpty()
-            && context.getParents().get(0).getIdentifier().getResolutionType() == REQUEST_SCOPED_IF_HAS_DEPENDENCIES;
+        return context.getRoot() != context
+            && context.getRoot().getIdentifier().getResolutionType() == REQUEST_SCOPED_IF_HAS_DEPENDENCIES;
     }
 
     /**
      * Calls the defined handlers and returns the first {@link Resolution} that is returned based on
      * the provided resolution context. Throws an exception if no handler returned a resolution.
+     * <p>
+     * Handlers with {@link Handler#hasStableResolutions() stable resolutions} which declined the context's
+     * identifier before are skipped.
      *
      * @param context the context to find the resolution for
      * @return the resolution
      */
     protected Resolution<?> findResolutionOrFail(ResolutionContext context) {
+        Resolution<?> resolution = findResolution(context);
+        if (resolution == null) {
+            throwForMissingResolution(context);
+        }
+        return resolution;
+    }
+
+    /**
+     * Calls the defined handlers and returns the first {@link Resolution} that is returned based on
+     * the provided resolution context, or null if no handler returned a resolution.
+     *
+     * @param context the context to find the resolution for
+     * @return the resolution, or null if none was found
+     * @see #findResolutionOrFail
+     */
+    @Nullable
+    protected Resolution<?> findResolution(ResolutionContext context) {
+        final List<Handler> handlers = config.getHandlers();
+        final ObjectIdentifier identifier = context.getIdentifier();
         try {
-            for (Handler handler : config.getHandlers()) {
+            DeclinedHandlers knownDeclines = declinedHandlers.get(identifier);
+            final int[] skippedIndexes = knownDeclines == null ? null : knownDeclines.getIndexesIfValid(handlers);
+            int nextSkipped = 0;
+            // Indexes of the stable handlers declining the identifier, only collected if none are known yet
+            int[] stableDeclines = null;
+            int totalStableDeclines = 0;
+            for (int index = 0; index < handlers.size(); ++index) {
+                if (skippedIndexes != null && nextSkipped < skippedIndexes.length
+                    && skippedIndexes[nextSkipped] == index) {
+                    ++nextSkipped;
+                    continue;
+                }
+                Handler handler = handlers.get(index);
                 Resolution<?> resolution = handler.resolve(context);
                 if (resolution != null) {
+                    if (totalStableDeclines > 0) {
+                        declinedHandlers.put(identifier,
+                            new DeclinedHandlers(Arrays.copyOf(stableDeclines, totalStableDeclines), handlers));
+                    }
                     return resolution;
+                } else if (skippedIndexes == null && handler.hasStableResolutions()) {
+                    if (stableDeclines == null) {
+                        stableDeclines = new int[handlers.size()];
+                    }
+                    stableDeclines[totalStableDeclines++] = index;
                 }
             }
         } catch (Exception e) {
             rethrowException(e);
         }
+        return null;
+    }
 
+    private static void throwForMissingResolution(ResolutionContext context) {
         final Class<?> clazz = context.getIdentifier().getTypeAsClass();
         if (!InjectorUtils.canInstantiate(clazz)) {
             String hint = clazz.isPrimitive()
@@ -250,6 +629,38 @@ public class InjectorImpl implements Injector {
             + "require the default constructor");
     }
 
+    /**
+     * Invokes the handlers' pre destroy method on the given singleton.
+     *
+     * @param object the singleton to destroy
+     */
+    protected void runPreDestroyHandlers(Object object) {
+        try {
+            for (Handler handler : config.getHandlers()) {
+                handler.preDestroy(object);
+            }
+        } catch (Exception e) {
+            rethrowException(e);
+        }
+    }
+
+    /**
+     * Notifies the handlers that the given object has been instantiated.
+     *
+     * @param object the object that was instantiated
+     * @param context the resolution context
+     * @param nanos time in nanoseconds it took to instantiate the object and run its post construct handlers
+     */
+    protected void runInstantiationHandlers(Object object, ResolutionContext context, long nanos) {
+        try {
+            for (Handler handler : config.getHandlers()) {
+                handler.onInstantiation(object, context, nanos);
+            }
+        } catch (Exception e) {
+            rethrowException(e);
+        }
+    }
+
     /**
      * Invokes the handler's post construct method when appropriate. Returns the object as returned by the
      * handlers, which may be different from the provided one.
@@ -275,4 +686,165 @@ public class InjectorImpl implements Injector {
         }
         return object;
     }
+
+    /**
+     * Invokes the handlers' {@link Handler#onDirectRequest} method on the given object. The handlers are not run
+     * if the current thread holds the singleton lock, i.e. if the object is requested while a singleton is being
+     * created (e.g. from a constructor or a post construct method), since handlers waiting for other threads that
+     * need the lock would otherwise deadlock.
+     *
+     * @param object the object requested directly from the injector
+     */
+    protected void runDirectRequestHandlers(Object object) {
+        if (singletonLock.isHeldByCurrentThread()) {
+            return;
+        }
+        try {
+            for (Handler handler : config.getHandlers()) {
+                handler.onDirectRequest(object);
+            }
+        } catch (Exception e) {
+            rethrowException(e);
+        }
+    }
+
+    /**
+     * Returns whether all dependencies of the given context's object are available without instantiating
+     * anything. A dependency is available if it is an existing singleton, or if it is resolved without
+     * instantiation (e.g. a provided value or a provider) and its own dependencies are available. If
+     * {@code includeConstructible} is true, dependencies which would be instantiated are available if all of
+     * their dependencies are available, transitively.
+     * <p>
+     * The check is based on the {@link DependencyDescriptor descriptors} of the objects, so that it usually only
+     * consists of one map lookup per dependency. A positive result is not binding: the object is still resolved
+     * regularly afterwards, aborting if a dependency turns out to be unavailable. An exception is thrown if no
+     * handler can resolve the object or one of the dependencies that are checked.
+     * <p>
+     * Objects without known descriptor are resolved with the handlers, so the handlers see the first
+     * check of an object as an additional resolution.
+     *
+     * @param context the context of the object to check
+     * @param includeConstructible whether dependencies that can be created are considered available
+     * @return true if all dependencies are available, false otherwise
+     */
+    private boolean hasAvailableDependencies(ResolutionContext context, boolean includeConstructible) {
+        DependencyDescriptor descriptor = getDependencyDescriptor(context);
+        if (descriptor == null) {
+            throwForMissingResolution(context);
+        }
+        return hasAvailableDependencies(context, descriptor, includeConstructible, new HashMap<>());
+    }
+
+    private boolean hasAvailableDependencies(ResolutionContext context, DependencyDescriptor descriptor,
+                                             boolean includeConstructible, Map<ObjectIdentifier, Boolean> results) {
+        for (ObjectIdentifier dependency : descriptor.dependencies) {
+            if (!isAvailable(context, dependency, includeConstructible, results)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAvailable(ResolutionContext parentContext, ObjectIdentifier identifier,
+                                boolean includeConstructible, Map<ObjectIdentifier, Boolean> results) {
+        if (identifier.getResolutionType() == SINGLETON && getKnownSingleton(identifier.getBindingKey()) != null) {
+            return true;
+        }
+        Boolean knownResult = results.get(identifier);
+        if (knownResult != null) {
+            return knownResult;
+        }
+        // Considered unavailable while it is being checked, so that cyclic dependencies end the check
+        results.put(identifier, Boolean.FALSE);
+
+        ResolutionContext context = parentContext.createChildContext(identifier);
+        DependencyDescriptor descriptor = getDependencyDescriptor(context);
+        if (descriptor == null) {
+            // Fail as the regular resolution of the dependency would
+            throwForMissingResolution(context);
+        }
+        boolean isAvailable = (includeConstructible || !descriptor.isInstantiation)
+            && hasAvailableDependencies(context, descriptor, includeConstructible, results);
+        results.put(identifier, isAvailable);
+        return isAvailable;
+    }
+
+    /**
+     * Returns the dependency descriptor for the given context's identifier, resolving it with the handlers if
+     * it is not yet known. Descriptors are kept until a provider is registered or a value is provided.
+     *
+     * @param context the context to get the descriptor for
+     * @return the descriptor, or null if no handler can resolve the context
+     */
+    @Nullable
+    private DependencyDescriptor getDependencyDescriptor(ResolutionContext context) {
+        DependencyDescriptor descriptor = dependencyDescriptors.get(context.getOriginalIdentifier());
+        if (descriptor == null) {
+            Resolution<?> resolution = findResolution(context);
+            if (resolution == null) {
+                return null;
+            }
+            descriptor = new DependencyDescriptor(resolution);
+            dependencyDescriptors.put(context.getOriginalIdentifier(), descriptor);
+        }
+        return descriptor;
+    }
+
+    @Override
+    public void clearResolutionCaches() {
+        declinedHandlers.clear();
+        dependencyDescriptors.clear();
+        resolutionCacheVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns the current version of the resolution caches, which changes whenever a provider is registered or
+     * a value is provided. Resolutions kept outside of the injector are outdated once the version changes.
+     *
+     * @return the current resolution cache version
+     */
+    int getResolutionCacheVersion() {
+        return resolutionCacheVersion.get();
+    }
+
+    /**
+     * Dependencies of an object identifier as defined by the resolution the handlers returned for it.
+     * Used to check the availability of an object's dependencies without resolving it again.
+     */
+    private static final class DependencyDescriptor {
+        private final ObjectIdentifier[] dependencies;
+        private final boolean isInstantiation;
+
+        DependencyDescriptor(Resolution<?> resolution) {
+            this.dependencies = resolution.getDependencies().toArray(new ObjectIdentifier[0]);
+            this.isInstantiation = resolution.isInstantiation();
+        }
+    }
+
+    /**
+     * Indexes of the handlers with stable resolutions which declined an object identifier, in ascending order.
+     * The handlers at the indexes are kept to detect changes to the list of handlers.
+     */
+    private static final class DeclinedHandlers {
+        private final int[] indexes;
+        private final Handler[] handlers;
+
+        DeclinedHandlers(int[] indexes, List<Handler> allHandlers) {
+            this.indexes = indexes;
+            this.handlers = new Handler[indexes.length];
+            for (int i = 0; i < indexes.length; ++i) {
+                handlers[i] = allHandlers.get(indexes[i]);
+            }
+        }
+
+        @Nullable
+        int[] getIndexesIfValid(List<Handler> allHandlers) {
+            for (int i = 0; i < indexes.length; ++i) {
+                if (indexes[i] >= allHandlers.size() || allHandlers.get(indexes[i]) != handlers[i]) {
+                    return null;
+                }
+            }
+            return indexes;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+
+import javax.inject.Provider;
+
+import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static ch.jalu.injector.utils.InjectorUtils.containsNullValue;
+
+/**
+ * Provider of new instances of a class, as returned by {@link InjectorImpl#getProvider}. The class is resolved
+ * by the injector's handlers on the first call to {@link #get()}. If all dependencies of the resolution are
+ * singletons, the resolution is kept so that following calls only look up the singletons and directly create
+ * the object without traversing the handlers again. The singletons themselves are not kept, so that
+ * {@link ch.jalu.injector.annotations.Reclaimable reclaimable} singletons can still be collected.
+ * <p>
+ * The kept resolution is discarded when a provider is registered or a value is provided to the injector,
+ * as the class may be resolved differently afterwards.
+ *
+ * @param <T> the type of the objects to create
+ */
+class ResolvedInstanceProvider<T> implements Provider<T> {
+
+    private final InjectorImpl injector;
+    private final Class<T> clazz;
+    private volatile KnownResolution knownResolution;
+
+    ResolvedInstanceProvider(InjectorImpl injector, Class<T> clazz) {
+        this.injector = injector;
+        this.clazz = clazz;
+    }
+
+    @Override
+    public T get() {
+        KnownResolution currentResolution = knownResolution;
+        if (currentResolution == null || currentResolution.version != injector.getResolutionCacheVersion()) {
+            currentResolution = resolve();
+            knownResolution = currentResolution;
+        }
+
+        if (currentResolution.resolution == null) {
+            // Dependencies may differ from call to call, so every object has to be fully resolved
+            return injector.newInstance(clazz);
+        }
+        T object = clazz.cast(createObject(currentResolution.context, currentResolution.resolution));
+        if (object != null) {
+            injector.runDirectRequestHandlers(object);
+        }
+        return object;
+    }
+
+    private KnownResolution resolve() {
+        final int version = injector.getResolutionCacheVersion();
+        ResolutionContext context = new ResolutionContext(injector, ObjectIdentifier.of(REQUEST_SCOPED, clazz));
+        Resolution<?> resolution = injector.findResolutionOrFail(context);
+        return hasOnlySingletonDependencies(resolution)
+            ? new KnownResolution(context, resolution, version)
+            : new KnownResolution(null, null, version);
+    }
+
+    private Object createObject(ResolutionContext context, Resolution<?> resolution) {
+        // Known singletons are looked up directly; missing ones are created as with any other request
+        Object[] dependencies = injector.resolveDependencies(context, resolution);
+        if (containsNullValue(dependencies)) {
+            injector.throwForUnexpectedNullDependency(context);
+            return null;
+        }
+        return injector.createObject(context, resolution, dependencies);
+    }
+
+    private static boolean hasOnlySingletonDependencies(Resolution<?> resolution) {
+        for (ObjectIdentifier dependency : resolution.getDependencies()) {
+            if (dependency.getResolutionType() != SINGLETON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolution of the provider's class, along with the injector's resolution cache version it was created in.
+     * The context and resolution are null if the class has to be fully resolved for each object.
+     */
+    private static final class KnownResolution {
+        private final ResolutionContext context;
+        private final Resolution<?> resolution;
+        private final int version;
+
+        KnownResolution(ResolutionContext context, Resolution<?> resolution, int version) {
+            this.context = context;
+            this.resolution = resolution;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ch.jalu.injector.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a constructor parameter whose value is supplied by the caller of an
+ * {@link ch.jalu.injector.factory.AssistedFactory} instead of by the injector.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Assisted {
+
+}
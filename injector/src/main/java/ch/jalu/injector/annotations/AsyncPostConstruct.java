@@ -0,0 +1,19 @@
+package ch.jalu.injector.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method which initializes the object asynchronously after it has been created. The method may not be
+ * static nor have any parameters, and must either return void or a {@link java.util.concurrent.CompletionStage}.
+ * It is run once the asynchronous initialization of the object's singleton dependencies has completed.
+ *
+ * @see ch.jalu.injector.handlers.postconstruct.AsyncPostConstructMethodInvoker
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncPostConstruct {
+
+}
@@ -0,0 +1,18 @@
+package ch.jalu.injector.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an injected {@link javax.inject.Provider} as memoizing: instead of creating a new object on each call,
+ * the provider returns the singleton of its type, which is retrieved from the injector on the first call.
+ *
+ * @see ch.jalu.injector.handlers.instantiation.ProviderHandler
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface Memoized {
+
+}
@@ -0,0 +1,38 @@
+package ch.jalu.injector.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose singleton may be reclaimed by the garbage collector. The injector only keeps a soft or
+ * weak reference to such singletons; if the singleton has been garbage collected, it is created again through
+ * the regular resolution the next time it is requested. Useful for large caches which are cheap to re-create.
+ * <p>
+ * The singleton can only be reclaimed if no other object keeps a reference to it, so reclaimable singletons
+ * should typically be injected via {@link javax.inject.Provider} or retrieved from the injector when needed.
+ * Objects registered into the injector with {@link ch.jalu.injector.Injector#register} are always kept.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Reclaimable {
+
+    /**
+     * @return the strength of the reference the injector keeps to the singleton
+     */
+    Strength value() default Strength.SOFT;
+
+    /**
+     * Reference strengths.
+     */
+    enum Strength {
+
+        /** Singleton is kept with a {@link java.lang.ref.SoftReference}: reclaimed under memory pressure. */
+        SOFT,
+
+        /** Singleton is kept with a {@link java.lang.ref.WeakReference}: reclaimed on any garbage collection. */
+        WEAK
+
+    }
+}
@@ -0,0 +1,184 @@
+package ch.jalu.injector.context;
+
+import ch.jalu.injector.exceptions.InjectorException;
+
+import javax.annotation.Nullable;
+import javax.inject.Qualifier;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Key under which an object is bound in the injector: the type of the object and, optionally, a
+ * {@link Qualifier qualifier} annotation such as {@link javax.inject.Named @Named}. Two keys are equal if
+ * their types are equal and their qualifiers are equal as defined by {@link Annotation#equals}, i.e.
+ * the qualifiers are of the same type and have the same values.
+ * <p>
+ * The type of a key is its class, or a canonical parameterized type if the key was created for a fully specified
+ * generic type such as {@code Cache<User>}; keys of {@code Cache<User>} and {@code Cache<Order>} are therefore
+ * different. Generic types with wildcards or type variables are reduced to their raw class.
+ * <p>
+ * Keys are immutable and their hash code is computed on creation, so they can be used to look up
+ * qualified objects in a hash map without inspecting the qualifier annotation again.
+ */
+public final class BindingKey {
+
+    /** Whether an annotation type is a qualifier; kept on the class itself so annotation classes can be unloaded. */
+    private static final ClassValue<Boolean> IS_QUALIFIER = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(Qualifier.class);
+        }
+    };
+
+    private final Type type;
+    private final Class<?> rawType;
+    @Nullable
+    private final Annotation qualifier;
+    private final int hashCode;
+    private final BindingKey unqualifiedKey;
+    private final BindingKey rawKey;
+
+    private BindingKey(Type type, Class<?> rawType, @Nullable Annotation qualifier) {
+        this.type = type;
+        this.rawType = rawType;
+        this.qualifier = qualifier;
+        this.hashCode = 31 * type.hashCode() + (qualifier == null ? 0 : qualifier.hashCode());
+        this.unqualifiedKey = qualifier == null ? this : new BindingKey(type, rawType, null);
+        this.rawKey = type == rawType ? this : new BindingKey(rawType, rawType, qualifier);
+    }
+
+    /**
+     * Creates a key for the given class without qualifier.
+     *
+     * @param type the class
+     * @return key for the class
+     */
+    public static BindingKey of(Class<?> type) {
+        return new BindingKey(type, type, null);
+    }
+
+    /**
+     * Creates a key for the given class and qualifier. Throws an exception if the annotation type is not
+     * annotated with {@link Qualifier}.
+     *
+     * @param type the class
+     * @param qualifier the qualifier annotation
+     * @return key for the class and qualifier
+     */
+    public static BindingKey of(Class<?> type, Annotation qualifier) {
+        if (!isQualifier(qualifier.annotationType())) {
+            throw new InjectorException("Annotation '" + qualifier + "' is not a qualifier (missing @Qualifier)");
+        }
+        return new BindingKey(type, type, qualifier);
+    }
+
+    /**
+     * Creates a key for the given identifier. The first annotation of the identifier which is a qualifier
+     * is taken as the key's qualifier; other annotations are ignored.
+     *
+     * @param identifier the identifier to create the key for
+     * @return key for the identifier
+     */
+    public static BindingKey of(ObjectIdentifier identifier) {
+        Class<?> rawType = identifier.getTypeAsClass();
+        Type type = identifier.getType() != rawType && CanonicalTypes.isConcrete(identifier.getType())
+            ? CanonicalTypes.canonicalize(identifier.getType())
+            : rawType;
+        return new BindingKey(type, rawType, findQualifier(identifier.getAnnotations()));
+    }
+
+    /**
+     * Returns whether the given annotation type is a {@link Qualifier qualifier}. The result is cached.
+     *
+     * @param annotationType the annotation type to check
+     * @return true if the annotation is a qualifier, false otherwise
+     */
+    public static boolean isQualifier(Class<? extends Annotation> annotationType) {
+        return IS_QUALIFIER.get(annotationType);
+    }
+
+    @Nullable
+    private static Annotation findQualifier(List<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            if (isQualifier(annotation.annotationType())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the type of the key: its class, or a canonical parameterized type for generic keys
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the class of the key (raw type if the key is generic)
+     */
+    public Class<?> getRawType() {
+        return rawType;
+    }
+
+    /**
+     * @return the qualifier of the key, null if the key has no qualifier
+     */
+    @Nullable
+    public Annotation getQualifier() {
+        return qualifier;
+    }
+
+    /**
+     * @return true if the key has a qualifier, false otherwise
+     */
+    public boolean isQualified() {
+        return qualifier != null;
+    }
+
+    /**
+     * @return true if the key's type is a parameterized type, false if it is a class
+     */
+    public boolean isGeneric() {
+        return type != rawType;
+    }
+
+    /**
+     * @return key with the same type and no qualifier (this key if it has no qualifier)
+     */
+    public BindingKey getUnqualifiedKey() {
+        return unqualifiedKey;
+    }
+
+    /**
+     * @return key with the raw type and the same qualifier (this key if it is not generic)
+     */
+    public BindingKey getRawKey() {
+        return rawKey;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof BindingKey)) {
+            return false;
+        }
+        BindingKey other = (BindingKey) obj;
+        return hashCode == other.hashCode
+            && type.equals(other.type)
+            && Objects.equals(qualifier, other.qualifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return qualifier == null ? type.getTypeName() : qualifier + " " + type.getTypeName();
+    }
+}
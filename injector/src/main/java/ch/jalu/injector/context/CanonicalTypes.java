@@ -0,0 +1,126 @@
+package ch.jalu.injector.context;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * Converts types to a canonical form which can be used as key in hash maps. Parameterized types of any
+ * implementation are replaced by an interned implementation with a precomputed hash code, such that equal
+ * parameterized types are usually represented by the same instance and can be compared by reference.
+ * Interned types are only referenced weakly, so that they do not keep any classes from being unloaded.
+ */
+final class CanonicalTypes {
+
+    private static final WeakInterner<CanonicalParameterizedType> INTERNED_TYPES = new WeakInterner<>();
+
+    private CanonicalTypes() {
+    }
+
+    /**
+     * Returns the canonical form of the given type. Classes are returned as is; parameterized types are converted
+     * to an interned instance whose type arguments are canonical as well. Other types (type variables, wildcards,
+     * generic arrays) are returned unchanged as the JDK implementations already define equality on them.
+     * <p>
+     * The owner type of parameterized types is not considered: it is implied by the raw type in all but the rarest
+     * of cases (inner classes of differently parameterized outer classes).
+     *
+     * @param type the type to canonicalize
+     * @return the canonical type
+     */
+    static Type canonicalize(Type type) {
+        if (type instanceof CanonicalParameterizedType || !(type instanceof ParameterizedType)) {
+            return type;
+        }
+
+        ParameterizedType parameterizedType = (ParameterizedType) type;
+        Type[] arguments = parameterizedType.getActualTypeArguments().clone();
+        for (int i = 0; i < arguments.length; ++i) {
+            arguments[i] = canonicalize(arguments[i]);
+        }
+        return INTERNED_TYPES.intern(new CanonicalParameterizedType(parameterizedType.getRawType(), arguments));
+    }
+
+    /**
+     * Returns whether the given type is fully specified, i.e. whether it is a class or a parameterized type
+     * whose type arguments are all fully specified. Types with wildcards or type variables are not.
+     *
+     * @param type the type to check
+     * @return true if the type is concrete, false otherwise
+     */
+    static boolean isConcrete(Type type) {
+        if (type instanceof Class<?>) {
+            return true;
+        } else if (type instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                if (!isConcrete(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Immutable parameterized type with a precomputed hash code. Equality is defined over the raw type and the
+     * type arguments.
+     */
+    private static final class CanonicalParameterizedType implements ParameterizedType {
+
+        private final Type rawType;
+        private final Type[] arguments;
+        private final int hashCode;
+
+        CanonicalParameterizedType(Type rawType, Type[] arguments) {
+            this.rawType = rawType;
+            this.arguments = arguments;
+            this.hashCode = 31 * rawType.hashCode() + Arrays.hashCode(arguments);
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return rawType instanceof Class<?> ? ((Class<?>) rawType).getDeclaringClass() : null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof CanonicalParameterizedType)) {
+                return false;
+            }
+            CanonicalParameterizedType other = (CanonicalParameterizedType) obj;
+            return hashCode == other.hashCode
+                && rawType.equals(other.rawType)
+                && Arrays.equals(arguments, other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(rawType.getTypeName()).append('<');
+            for (int i = 0; i < arguments.length; ++i) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(arguments[i].getTypeName());
+            }
+            return sb.append('>').toString();
+        }
+    }
+}
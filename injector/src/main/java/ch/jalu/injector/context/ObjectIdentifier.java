@@ -7,20 +7,68 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Identifies objects.
+ * <p>
+ * Two identifiers are equal if they have the same resolution type, equal types and equal annotations. The hash
+ * code is computed on creation. Use {@link #of} to obtain an interned identifier: identifiers created by the
+ * injector for the dependencies of classes are interned, so that they are shared across resolutions and can
+ * be used as map keys cheaply. Interned identifiers are only referenced weakly or from their class (via
+ * {@link ClassValue}), so interning does not prevent classes and their class loaders from being unloaded.
  */
 public class ObjectIdentifier {
 
+    private static final WeakInterner<ObjectIdentifier> INTERNED_IDENTIFIERS = new WeakInterner<>();
+    /** Interned identifiers without annotations by class, per standard resolution type (indexed by ordinal). */
+    private static final ClassValue<ObjectIdentifier>[] UNANNOTATED_IDENTIFIERS = createUnannotatedIdentifierCaches();
+
     private final ResolutionType resolutionType;
     private final Type type;
     private final List<Annotation> annotations;
+    private final Type canonicalType;
+    private final int hashCode;
+    private BindingKey bindingKey;
 
     public ObjectIdentifier(ResolutionType resolutionType, Type type, Annotation... annotations) {
         this.resolutionType = resolutionType;
         this.type = type;
         this.annotations = Arrays.asList(annotations);
+        this.canonicalType = CanonicalTypes.canonicalize(type);
+        this.hashCode = Objects.hash(resolutionType, canonicalType, this.annotations);
+    }
+
+    /**
+     * Returns the interned identifier for the given values. The same instance is returned for all equal
+     * identifiers, so there is no need to cache the returned object.
+     *
+     * @param resolutionType the resolution type (scope)
+     * @param type the type of the object
+     * @param annotations the annotations of the object
+     * @return the identifier
+     */
+    public static ObjectIdentifier of(ResolutionType resolutionType, Type type, Annotation... annotations) {
+        if (annotations.length == 0 && type instanceof Class<?> && resolutionType instanceof StandardResolutionType) {
+            // Fast path for identifiers requested via the injector's methods: no allocation if already interned
+            return UNANNOTATED_IDENTIFIERS[((StandardResolutionType) resolutionType).ordinal()].get((Class<?>) type);
+        }
+        return INTERNED_IDENTIFIERS.intern(new ObjectIdentifier(resolutionType, type, annotations));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ClassValue<ObjectIdentifier>[] createUnannotatedIdentifierCaches() {
+        StandardResolutionType[] resolutionTypes = StandardResolutionType.values();
+        ClassValue<ObjectIdentifier>[] caches = new ClassValue[resolutionTypes.length];
+        for (StandardResolutionType resolutionType : resolutionTypes) {
+            caches[resolutionType.ordinal()] = new ClassValue<ObjectIdentifier>() {
+                @Override
+                protected ObjectIdentifier computeValue(Class<?> type) {
+                    return INTERNED_IDENTIFIERS.intern(new ObjectIdentifier(resolutionType, type));
+                }
+            };
+        }
+        return caches;
     }
 
     /**
@@ -73,6 +121,41 @@ public class ObjectIdentifier {
         return annotations;
     }
 
+    /**
+     * Returns the key of the requested object, consisting of its class and its {@link javax.inject.Qualifier
+     * qualifier} annotation, if any. The key is created on the first call and reused afterwards.
+     *
+     * @return the binding key of the object
+     */
+    public BindingKey getBindingKey() {
+        // Benign race: keys are immutable and equal, so it does not matter if multiple threads create one
+        BindingKey key = bindingKey;
+        if (key == null) {
+            key = BindingKey.of(this);
+            bindingKey = key;
+        }
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof ObjectIdentifier)) {
+            return false;
+        }
+        ObjectIdentifier other = (ObjectIdentifier) obj;
+        return hashCode == other.hashCode
+            && Objects.equals(resolutionType, other.resolutionType)
+            && canonicalType.equals(other.canonicalType)
+            && annotations.equals(other.annotations);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
     @Override
     public String toString() {
         return "ObjId[type=" + type + ", annotations=" + annotations + "]";
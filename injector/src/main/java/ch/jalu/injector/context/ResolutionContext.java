@@ -3,20 +3,28 @@ package ch.jalu.injector.context;
 import ch.jalu.injector.Injector;
 import ch.jalu.injector.exceptions.InjectorException;
 
-import java.util.ArrayList;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Resolution context: contains data about the object that is requested, such as identifying
  * information about the object to retrieve or construct and the context in which it is being
  * requested.
+ * <p>
+ * A child context only references its parent, so creating a child context is a single allocation; the list of
+ * all parents is only built when it is requested with {@link #getParents()}.
  */
 public class ResolutionContext {
 
     private final Injector injector;
     private final ObjectIdentifier originalIdentifier;
     private ObjectIdentifier identifier;
-    private List<ResolutionContext> parents = new ArrayList<>();
+    @Nullable
+    private final ResolutionContext parent;
+    private final ResolutionContext root;
+    private final int depth;
 
     /**
      * Creates a new resolution context with no predecessors.
@@ -28,6 +36,18 @@ public class ResolutionContext {
         this.injector = injector;
         this.originalIdentifier = identifier;
         this.identifier = identifier;
+        this.parent = null;
+        this.root = this;
+        this.depth = 0;
+    }
+
+    private ResolutionContext(ResolutionContext parent, ObjectIdentifier identifier) {
+        this.injector = parent.injector;
+        this.originalIdentifier = identifier;
+        this.identifier = identifier;
+        this.parent = parent;
+        this.root = parent.root;
+        this.depth = parent.depth + 1;
     }
 
     /**
@@ -45,8 +65,37 @@ public class ResolutionContext {
         return identifier;
     }
 
+    /**
+     * Returns all predecessors of this context, starting with the root context. The list is created on each call.
+     *
+     * @return the parents of this context
+     */
     public List<ResolutionContext> getParents() {
-        return parents;
+        if (parent == null) {
+            return Collections.emptyList();
+        }
+        ResolutionContext[] parents = new ResolutionContext[depth];
+        ResolutionContext context = parent;
+        for (int i = depth - 1; i >= 0; --i) {
+            parents[i] = context;
+            context = context.parent;
+        }
+        return Arrays.asList(parents);
+    }
+
+    /**
+     * @return the context this context was created from, null if this is a root context
+     */
+    @Nullable
+    public ResolutionContext getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the first context of the chain of parents, or this context if it has no parent
+     */
+    public ResolutionContext getRoot() {
+        return root;
     }
 
     /**
@@ -70,9 +119,6 @@ public class ResolutionContext {
      * @return the child context
      */
     public ResolutionContext createChildContext(ObjectIdentifier identifier) {
-        ResolutionContext child = new ResolutionContext(injector, identifier);
-        child.parents.addAll(this.parents);
-        child.parents.add(this);
-        return child;
+        return new ResolutionContext(this, identifier);
     }
 }
@@ -0,0 +1,42 @@
+package ch.jalu.injector.context;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of canonical instances which only references its entries weakly: an interned instance is removed from the
+ * pool once it is no longer used elsewhere. As long as an instance is in use, the same instance is returned for all
+ * values equal to it. In contrast to a static map, the pool does not prevent the classes referenced by its entries
+ * (and their class loaders) from being garbage collected.
+ *
+ * @param <T> the type of the interned instances
+ */
+final class WeakInterner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to the given value, adding the value to the pool if no equal
+     * instance is present.
+     *
+     * @param value the value to intern
+     * @return the interned instance
+     */
+    synchronized T intern(T value) {
+        WeakReference<T> reference = pool.get(value);
+        T internedValue = reference == null ? null : reference.get();
+        if (internedValue == null) {
+            pool.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return internedValue;
+    }
+
+    /**
+     * @return the number of instances in the pool, not counting any entries that have been garbage collected
+     */
+    synchronized int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,21 @@
+package ch.jalu.injector.factory;
+
+/**
+ * Injectable factory that creates new instances of a class whose constructor combines dependencies
+ * from the injector with values supplied by the caller. The caller-supplied parameters of the
+ * {@code @Inject} constructor are marked with {@link ch.jalu.injector.annotations.Assisted}.
+ *
+ * @param <T> the type of the objects to create
+ */
+public interface AssistedFactory<T> {
+
+    /**
+     * Creates a new object with the given values for the constructor parameters marked as
+     * {@link ch.jalu.injector.annotations.Assisted}.
+     *
+     * @param arguments the values of the assisted parameters, in the order they appear in the constructor
+     * @return new instance
+     */
+    T create(Object... arguments);
+
+}
@@ -0,0 +1,23 @@
+package ch.jalu.injector.factory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides instances of a type asynchronously. Injectable like {@link javax.inject.Provider}: the objects are
+ * created on the injector's {@link ch.jalu.injector.InjectorBuilder#setAsyncExecutor async executor}, so that
+ * the calling thread does not resolve and construct the object itself.
+ *
+ * @param <T> the type of the objects to provide
+ * @see ch.jalu.injector.Injector#getAsyncProvider
+ */
+@FunctionalInterface
+public interface AsyncProvider<T> {
+
+    /**
+     * Creates a new instance of the provider's type asynchronously.
+     *
+     * @return future completing with the new instance, or exceptionally if it could not be created
+     */
+    CompletableFuture<T> getAsync();
+
+}
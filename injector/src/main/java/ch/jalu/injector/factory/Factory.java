@@ -1,5 +1,7 @@
 package ch.jalu.injector.factory;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Injectable factory that creates new instances of a certain type.
  *
@@ -16,4 +18,18 @@ public interface Factory<P> {
      */
     <C extends P> C newInstance(Class<C> clazz);
 
+    /**
+     * Creates an instance of the given class asynchronously. The factories injected by the injector create
+     * the instance on the injector's {@link ch.jalu.injector.InjectorBuilder#setAsyncExecutor async executor};
+     * by default, {@link #newInstance} is called on the common fork join pool.
+     *
+     * @param clazz the class to instantiate
+     * @param <C> the class type
+     * @return future completing with the new instance of the class
+     * @since 0.5
+     */
+    default <C extends P> CompletableFuture<C> newInstanceAsync(Class<C> clazz) {
+        return CompletableFuture.supplyAsync(() -> newInstance(clazz));
+    }
+
 }
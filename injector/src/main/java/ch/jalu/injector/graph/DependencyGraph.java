@@ -0,0 +1,122 @@
+package ch.jalu.injector.graph;
+
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.StandardResolutionType;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Graph of the singletons of an injector: for each singleton, the injector records the singletons that were
+ * injected into it. Singletons are identified by the {@link BindingKey key} they are registered with in the
+ * injector, so singletons of generic types and qualified singletons have their own nodes.
+ * <p>
+ * Only dependencies of {@link StandardResolutionType#SINGLETON singleton} scope are recorded as edges.
+ */
+public class DependencyGraph {
+
+    private final Map<BindingKey, SingletonNode> nodes = new ConcurrentHashMap<>();
+    private final AtomicInteger nodeCounter = new AtomicInteger();
+
+    /**
+     * Records a singleton that was registered into the injector.
+     *
+     * @param key the key the singleton is registered with
+     */
+    public void addRegisteredSingleton(BindingKey key) {
+        addNode(key, Collections.emptyList(), 0, false);
+    }
+
+    /**
+     * Records a singleton that was instantiated by the injector. A dependency of a generic type that was
+     * satisfied by the singleton of its raw type is recorded with the raw type's key.
+     *
+     * @param key the key the singleton is registered with
+     * @param dependencies the dependencies of the resolution that was used to create the singleton
+     * @param constructionNanos time in nanoseconds to instantiate the singleton and run its post construct handlers
+     */
+    public void addInstantiatedSingleton(BindingKey key, List<ObjectIdentifier> dependencies,
+                                         long constructionNanos) {
+        List<BindingKey> singletonDependencies = new ArrayList<>(dependencies.size());
+        for (ObjectIdentifier dependency : dependencies) {
+            if (dependency.getResolutionType() == StandardResolutionType.SINGLETON) {
+                BindingKey dependencyKey = dependency.getBindingKey();
+                if (nodes.containsKey(dependencyKey)) {
+                    singletonDependencies.add(dependencyKey);
+                } else if (nodes.containsKey(dependencyKey.getRawKey())) {
+                    singletonDependencies.add(dependencyKey.getRawKey());
+                }
+            }
+        }
+        addNode(key, singletonDependencies, constructionNanos, true);
+    }
+
+    /**
+     * Returns the node of the singleton registered as the given type without qualifier.
+     *
+     * @param type the type to look up
+     * @return the node, or null if no singleton is known for the type
+     */
+    @Nullable
+    public SingletonNode getNode(Class<?> type) {
+        return nodes.get(BindingKey.of(type));
+    }
+
+    /**
+     * Returns the node of the singleton registered with the given key.
+     *
+     * @param key the key to look up
+     * @return the node, or null if no singleton is known for the key
+     */
+    @Nullable
+    public SingletonNode getNode(BindingKey key) {
+        return nodes.get(key);
+    }
+
+    /**
+     * Returns all nodes in the order in which the singletons were first added, with dependencies always coming
+     * before the singletons that depend on them. A singleton which was added again (e.g. a
+     * {@link ch.jalu.injector.annotations.Reclaimable reclaimable} singleton that was created anew) keeps its
+     * original position.
+     *
+     * @return all nodes of the graph
+     */
+    public List<SingletonNode> getNodes() {
+        List<SingletonNode> nodesByCreation = new ArrayList<>(nodes.values());
+        nodesByCreation.sort(Comparator.comparingInt(SingletonNode::getCreationIndex));
+
+        // Creation order already satisfies the dependencies in general; sort topologically to guarantee it
+        List<SingletonNode> sortedNodes = new ArrayList<>(nodesByCreation.size());
+        Set<BindingKey> visitedKeys = new HashSet<>();
+        for (SingletonNode node : nodesByCreation) {
+            addWithDependencies(node, visitedKeys, sortedNodes);
+        }
+        return sortedNodes;
+    }
+
+    private void addWithDependencies(SingletonNode node, Set<BindingKey> visitedKeys, List<SingletonNode> sortedNodes) {
+        if (visitedKeys.add(node.getKey())) {
+            for (BindingKey dependency : node.getDependencyKeys()) {
+                SingletonNode dependencyNode = nodes.get(dependency);
+                if (dependencyNode != null) {
+                    addWithDependencies(dependencyNode, visitedKeys, sortedNodes);
+                }
+            }
+            sortedNodes.add(node);
+        }
+    }
+
+    private void addNode(BindingKey key, List<BindingKey> dependencies, long constructionNanos, boolean instantiated) {
+        nodes.compute(key, (k, existingNode) -> new SingletonNode(key, dependencies, constructionNanos,
+            existingNode == null ? nodeCounter.getAndIncrement() : existingNode.getCreationIndex(), instantiated));
+    }
+}
@@ -0,0 +1,237 @@
+package ch.jalu.injector.graph;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.context.BindingKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Exports the {@link DependencyGraph} of an injector for offline analysis, in DOT or JSON format.
+ * <p>
+ * For each singleton, the export contains its construction time and its estimated shallow and retained size
+ * (see {@link ObjectSizeEstimator}), as well as the totals over its <i>subgraph</i>: the singleton itself and
+ * all singletons it depends on, directly or indirectly. The retained size of a singleton covers all objects
+ * reachable from it up to other singletons, so the subgraph totals show which singletons are the most expensive
+ * to create and keep in memory along with their dependencies.
+ */
+public class DependencyGraphExporter {
+
+    private final Injector injector;
+    private final ObjectSizeEstimator sizeEstimator;
+
+    /**
+     * Constructor.
+     *
+     * @param injector the injector whose graph should be exported
+     */
+    public DependencyGraphExporter(Injector injector) {
+        this(injector, new ObjectSizeEstimator());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param injector the injector whose graph should be exported
+     * @param sizeEstimator the estimator to compute the size of singletons with
+     */
+    public DependencyGraphExporter(Injector injector, ObjectSizeEstimator sizeEstimator) {
+        this.injector = injector;
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    /**
+     * Exports the graph in the DOT format of Graphviz. Edges point from a singleton to its dependencies.
+     *
+     * @return the graph in DOT format
+     */
+    public String toDot() {
+        StringBuilder sb = new StringBuilder("digraph singletons {\n");
+        List<NodeStatistics> statistics = computeStatistics();
+        for (NodeStatistics stats : statistics) {
+            sb.append("  ").append(quote(stats.node.getKey().toString()))
+                .append(" [label=\"").append(escape(getLabel(stats.node.getKey())))
+                .append("\\n").append(stats.node.getConstructionNanos() / 1000).append(" us, ")
+                .append(stats.retainedSize).append(" B")
+                .append("\\nsubgraph: ").append(stats.subgraphNanos / 1000).append(" us, ")
+                .append(stats.subgraphSize).append(" B\"];\n");
+        }
+        for (NodeStatistics stats : statistics) {
+            for (BindingKey dependency : stats.node.getDependencyKeys()) {
+                sb.append("  ").append(quote(stats.node.getKey().toString()))
+                    .append(" -> ").append(quote(dependency.toString())).append(";\n");
+            }
+        }
+        return sb.append("}\n").toString();
+    }
+
+    /**
+     * Exports the graph in JSON format: an object with a {@code nodes} array, which contains an entry per singleton
+     * with its type, the class of the instance, its dependencies, its construction time in nanoseconds, its
+     * estimated shallow and retained size in bytes and the totals of its subgraph.
+     *
+     * @return the graph in JSON format
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\"nodes\":[");
+        String nodeSeparator = "";
+        for (NodeStatistics stats : computeStatistics()) {
+            sb.append(nodeSeparator)
+                .append("{\"type\":").append(quote(stats.node.getKey().toString()))
+                .append(",\"instanceType\":").append(quote(stats.instanceType.getName()))
+                .append(",\"constructionNanos\":").append(stats.node.getConstructionNanos())
+                .append(",\"shallowSize\":").append(stats.shallowSize)
+                .append(",\"retainedSize\":").append(stats.retainedSize)
+                .append(",\"subgraphNanos\":").append(stats.subgraphNanos)
+                .append(",\"subgraphSize\":").append(stats.subgraphSize)
+                .append(",\"dependencies\":[");
+            String dependencySeparator = "";
+            for (BindingKey dependency : stats.node.getDependencyKeys()) {
+                sb.append(dependencySeparator).append(quote(dependency.toString()));
+                dependencySeparator = ",";
+            }
+            sb.append("]}");
+            nodeSeparator = ",";
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * Computes the statistics of all singletons of the graph, in creation order.
+     *
+     * @return statistics per singleton
+     */
+    protected List<NodeStatistics> computeStatistics() {
+        List<NodeStatistics> statistics = new ArrayList<>();
+        Map<BindingKey, Set<SingletonNode>> subgraphByKey = new HashMap<>();
+        Map<BindingKey, NodeStatistics> statisticsByKey = new HashMap<>();
+        List<SingletonNode> nodes = injector.getDependencyGraph().getNodes();
+        Set<Object> singletons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SingletonNode node : nodes) {
+            Object instance = injector.getIfAvailable(node.getKey());
+            if (instance != null) {
+                singletons.add(instance);
+            }
+        }
+
+        // Nodes are in creation order, so the subgraphs of all dependencies are known when a node is processed
+        for (SingletonNode node : nodes) {
+            Object instance = injector.getIfAvailable(node.getKey());
+            NodeStatistics stats = instance == null
+                ? new NodeStatistics(node, node.getType(), 0, 0)
+                : new NodeStatistics(node, instance.getClass(), sizeEstimator.estimateShallowSize(instance),
+                    sizeEstimator.estimateRetainedSize(instance, singletons));
+            statisticsByKey.put(node.getKey(), stats);
+
+            Set<SingletonNode> subgraph = new LinkedHashSet<>();
+            subgraph.add(node);
+            for (BindingKey dependency : node.getDependencyKeys()) {
+                subgraph.addAll(subgraphByKey.getOrDefault(dependency, Collections.emptySet()));
+            }
+            subgraphByKey.put(node.getKey(), subgraph);
+            for (SingletonNode subgraphNode : subgraph) {
+                NodeStatistics subgraphNodeStats = statisticsByKey.get(subgraphNode.getKey());
+                stats.subgraphNanos += subgraphNode.getConstructionNanos();
+                stats.subgraphSize += subgraphNodeStats.retainedSize;
+            }
+            statistics.add(stats);
+        }
+        return statistics;
+    }
+
+    private static String getLabel(BindingKey key) {
+        return key.isGeneric() || key.isQualified() ? key.toString() : key.getRawType().getSimpleName();
+    }
+
+    private static String quote(String text) {
+        return "\"" + escape(text) + "\"";
+    }
+
+    /**
+     * Escapes the given text for use in a quoted string of JSON or DOT: backslashes, quotes and control
+     * characters are escaped, the latter as {@code \n}, {@code \r}, {@code \t} or as unicode escape sequence.
+     *
+     * @param text the text to escape
+     * @return the escaped text
+     */
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Statistics of a singleton.
+     */
+    protected static final class NodeStatistics {
+
+        private final SingletonNode node;
+        private final Class<?> instanceType;
+        private final long shallowSize;
+        private final long retainedSize;
+        private long subgraphNanos;
+        private long subgraphSize;
+
+        NodeStatistics(SingletonNode node, Class<?> instanceType, long shallowSize, long retainedSize) {
+            this.node = node;
+            this.instanceType = instanceType;
+            this.shallowSize = shallowSize;
+            this.retainedSize = retainedSize;
+        }
+
+        public SingletonNode getNode() {
+            return node;
+        }
+
+        public Class<?> getInstanceType() {
+            return instanceType;
+        }
+
+        public long getShallowSize() {
+            return shallowSize;
+        }
+
+        public long getRetainedSize() {
+            return retainedSize;
+        }
+
+        public long getSubgraphNanos() {
+            return subgraphNanos;
+        }
+
+        public long getSubgraphSize() {
+            return subgraphSize;
+        }
+    }
+}
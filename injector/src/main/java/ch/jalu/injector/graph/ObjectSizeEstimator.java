@@ -0,0 +1,161 @@
+package ch.jalu.injector.graph;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the size of objects. The shallow size is the memory taken by the object itself without the objects it
+ * references; the retained size adds the shallow sizes of all objects reachable from it. The estimate assumes a
+ * 64-bit JVM with compressed references: a 12-byte object header, 4 bytes per reference and sizes aligned to
+ * 8 bytes. Field padding is not taken into account.
+ */
+public class ObjectSizeEstimator {
+
+    private static final int OBJECT_HEADER_SIZE = 12;
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int ALIGNMENT = 8;
+
+    private final Map<Class<?>, Long> sizeByClass = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Field[]> referenceFieldsByClass = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the estimated shallow size of the given object in bytes.
+     *
+     * @param object the object to process
+     * @return estimated shallow size in bytes
+     */
+    public long estimateShallowSize(Object object) {
+        Class<?> clazz = object.getClass();
+        if (clazz.isArray()) {
+            long length = Array.getLength(object);
+            return align(ARRAY_HEADER_SIZE + length * getSizeOfType(clazz.getComponentType()));
+        }
+        return sizeByClass.computeIfAbsent(clazz, ObjectSizeEstimator::computeInstanceSize);
+    }
+
+    /**
+     * Returns the estimated retained size of the given object in bytes: the sum of the shallow sizes of the object
+     * and of all objects reachable from it, each counted once. Objects in {@code boundaries} (e.g. other
+     * singletons) are neither counted nor traversed, and neither are classes, class loaders and threads. The
+     * referents of {@link Reference references} are not traversed.
+     * <p>
+     * This is an estimate of what the object keeps alive, not the exact retained size of a heap dump: an object
+     * reachable from several roots is counted for each of them. Fields which cannot be made accessible, such as
+     * fields of JDK classes in encapsulated modules, are not traversed.
+     *
+     * @param object the object to process
+     * @param boundaries objects at which the traversal stops, compared by identity
+     * @return estimated retained size in bytes
+     */
+    public long estimateRetainedSize(Object object, Set<Object> boundaries) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> objectsToVisit = new ArrayDeque<>();
+        visited.add(object);
+        objectsToVisit.push(object);
+
+        long size = 0;
+        while (!objectsToVisit.isEmpty()) {
+            Object current = objectsToVisit.pop();
+            size += estimateShallowSize(current);
+            if (current instanceof Reference<?>) {
+                continue;
+            }
+
+            if (current instanceof Object[]) {
+                for (Object element : (Object[]) current) {
+                    addIfTraversable(element, boundaries, visited, objectsToVisit);
+                }
+            } else if (!current.getClass().isArray()) {
+                for (Field field : referenceFieldsByClass.computeIfAbsent(current.getClass(),
+                        ObjectSizeEstimator::collectReferenceFields)) {
+                    addIfTraversable(getValue(field, current), boundaries, visited, objectsToVisit);
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void addIfTraversable(Object object, Set<Object> boundaries, Set<Object> visited,
+                                         Deque<Object> objectsToVisit) {
+        if (object != null && !boundaries.contains(object) && !(object instanceof Class<?>)
+            && !(object instanceof ClassLoader) && !(object instanceof Thread) && visited.add(object)) {
+            objectsToVisit.push(object);
+        }
+    }
+
+    private static Object getValue(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Field[] collectReferenceFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> currentClass = clazz;
+        while (currentClass != null) {
+            for (Field field : currentClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()
+                    && trySetAccessible(field)) {
+                    fields.add(field);
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private static boolean trySetAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            // Field in an encapsulated module (InaccessibleObjectException) or prohibited by a security manager
+            return false;
+        }
+    }
+
+    private static long computeInstanceSize(Class<?> clazz) {
+        long size = OBJECT_HEADER_SIZE;
+        Class<?> currentClass = clazz;
+        while (currentClass != null) {
+            for (Field field : currentClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += getSizeOfType(field.getType());
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return align(size);
+    }
+
+    private static int getSizeOfType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE_SIZE;
+        } else if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1; // byte, boolean
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
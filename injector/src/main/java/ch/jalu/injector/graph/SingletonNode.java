@@ -0,0 +1,108 @@
+package ch.jalu.injector.graph;
+
+import ch.jalu.injector.context.BindingKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Node of the {@link DependencyGraph}: a singleton known to the injector along with the keys of its
+ * singleton dependencies.
+ */
+public class SingletonNode {
+
+    private final BindingKey key;
+    private final List<BindingKey> dependencyKeys;
+    private final List<Class<?>> dependencies;
+    private final long constructionNanos;
+    private final int creationIndex;
+    private final boolean instantiated;
+
+    /**
+     * Constructor.
+     *
+     * @param key the key the singleton is registered with
+     * @param dependencyKeys the keys of the singleton dependencies used to create the singleton
+     * @param constructionNanos time in nanoseconds to instantiate the singleton and run its post construct
+     *                          handlers, not including the time to resolve its dependencies
+     * @param creationIndex the number of singletons that were known before this one
+     * @param instantiated true if the injector created the singleton, false if it was registered
+     */
+    public SingletonNode(BindingKey key, List<BindingKey> dependencyKeys, long constructionNanos, int creationIndex,
+                         boolean instantiated) {
+        this.key = key;
+        this.dependencyKeys = Collections.unmodifiableList(dependencyKeys);
+        List<Class<?>> dependencies = new ArrayList<>(dependencyKeys.size());
+        for (BindingKey dependencyKey : dependencyKeys) {
+            dependencies.add(dependencyKey.getRawType());
+        }
+        this.dependencies = Collections.unmodifiableList(dependencies);
+        this.constructionNanos = constructionNanos;
+        this.creationIndex = creationIndex;
+        this.instantiated = instantiated;
+    }
+
+    /**
+     * @return the key the singleton is registered with
+     */
+    public BindingKey getKey() {
+        return key;
+    }
+
+    /**
+     * @return the type the singleton is registered as (raw type if the singleton's key is generic)
+     */
+    public Class<?> getType() {
+        return key.getRawType();
+    }
+
+    /**
+     * Returns the keys of the singletons that were injected into this singleton. Objects that were registered
+     * into the injector (as opposed to being instantiated by it) have no dependencies.
+     *
+     * @return the keys of the singleton dependencies
+     */
+    public List<BindingKey> getDependencyKeys() {
+        return dependencyKeys;
+    }
+
+    /**
+     * Returns the types of the singletons that were injected into this singleton, i.e. the raw types of
+     * {@link #getDependencyKeys()}.
+     *
+     * @return the singleton dependencies
+     */
+    public List<Class<?>> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * @return time in nanoseconds it took to instantiate the singleton and run its post construct handlers,
+     *         0 for registered objects
+     */
+    public long getConstructionNanos() {
+        return constructionNanos;
+    }
+
+    /**
+     * Returns the index of the singleton in the order in which singletons were added to the injector.
+     *
+     * @return the creation index
+     */
+    public int getCreationIndex() {
+        return creationIndex;
+    }
+
+    /**
+     * @return true if the singleton was created by the injector, false if it was registered into it
+     */
+    public boolean isInstantiated() {
+        return instantiated;
+    }
+
+    @Override
+    public String toString() {
+        return "SingletonNode[" + key + "]";
+    }
+}
@@ -6,6 +6,7 @@ import ch.jalu.injector.handlers.instantiation.Resolution;
 import javax.annotation.Nullable;
 import javax.inject.Provider;
 import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Handlers may modify the injection process at different moments.
@@ -32,6 +33,20 @@ public interface Handler {
         return null;
     }
 
+    /**
+     * Returns whether the handler declines object identifiers consistently: {@link #resolve} has no side effects,
+     * and if it returns {@code null} for an identifier, it returns {@code null} for an equal identifier as long as
+     * no annotation value or provider is registered with the injector. The injector remembers which of its handlers
+     * with stable resolutions declined an identifier and skips them when resolving the identifier again.
+     * A handler whose configuration changes must call {@link ch.jalu.injector.Injector#clearResolutionCaches}.
+     *
+     * @return true if the handler's resolutions are stable, false otherwise
+     * @since 0.5
+     */
+    default boolean hasStableResolutions() {
+        return false;
+    }
+
     /**
      * Processes the newly created object.
      *
@@ -47,6 +62,19 @@ public interface Handler {
         return null;
     }
 
+    /**
+     * Called after an object has been instantiated and post-processed by the handlers. This method is called for
+     * every instantiation, so implementations should be fast and avoid allocating objects.
+     *
+     * @param object the object that was instantiated
+     * @param context the resolution context
+     * @param nanos time in nanoseconds it took to instantiate the object and run the post processing
+     * @throws Exception for failed validations or similar
+     * @since 0.5
+     */
+    default void onInstantiation(Object object, ResolutionContext context, long nanos) throws Exception {
+    }
+
     /**
      * Processes the annotation type and the associated object.
      *
@@ -80,4 +108,40 @@ public interface Handler {
     default <T, P extends Provider<? extends T>> void onProviderClass(Class<T> clazz,
                                                                       Class<P> providerClass) throws Exception {
     }
+
+    /**
+     * Processes a singleton which is about to be destroyed because its injector is being closed.
+     *
+     * @param object the singleton to destroy
+     * @throws Exception for failed disposals
+     * @since 0.5
+     */
+    default void preDestroy(Object object) throws Exception {
+    }
+
+    /**
+     * Processes an object which was requested directly from the injector, i.e. not as a dependency of another
+     * object, right before the injector returns it. The injector holds no locks when calling this method, so
+     * handlers may block here, e.g. to wait for the initialization of the object. Objects which are requested
+     * while the injector creates a singleton, e.g. from a constructor or a post construct method, are returned
+     * without calling this method.
+     *
+     * @param object the object which is about to be returned
+     * @throws Exception for unsuccessful processing
+     * @since 0.5
+     */
+    default void onDirectRequest(Object object) throws Exception {
+    }
+
+    /**
+     * Returns the pending asynchronous initialization of the given object, if applicable.
+     *
+     * @param object the object to get the initialization of
+     * @return future completing when the object is fully initialized, or null if the handler is not initializing it
+     * @since 0.5
+     */
+    @Nullable
+    default CompletableFuture<?> getInitialization(Object object) {
+        return null;
+    }
 }
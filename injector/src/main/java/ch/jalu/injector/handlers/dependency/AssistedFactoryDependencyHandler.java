@@ -0,0 +1,305 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.annotations.Assisted;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.factory.AssistedFactory;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.utils.InjectorUtils;
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+
+/**
+ * Dependency handler that builds {@link AssistedFactory} objects.
+ * <p>
+ * The class to create must have exactly one {@code @Inject} constructor; its parameters annotated with
+ * {@link Assisted} are supplied to {@link AssistedFactory#create}, while all other parameters are resolved
+ * as singletons when the factory is injected. The constructor is analyzed once per class and turned into a method
+ * handle taking the assisted values as array. Each factory binds the injected singletons to the handle, so creating
+ * an object directly invokes the constructor with the given values.
+ * <p>
+ * Only constructor injection is supported: classes with {@code @Inject} fields are rejected. Created objects are
+ * passed to the injector's post construct and instantiation handlers, so {@link PostConstruct} methods are run
+ * as for objects created by the injector. The constructor must have at least one {@code @Assisted} parameter;
+ * the values passed to {@link AssistedFactory#create} must match the assisted parameters in number and type.
+ */
+public class AssistedFactoryDependencyHandler implements Handler {
+
+    private final Map<Class<?>, AssistedConstructor<?>> constructorsByClass = new ConcurrentHashMap<>();
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        if (AssistedFactory.class.equals(context.getIdentifier().getTypeAsClass())) {
+            Class<?> genericType = ReflectionUtils.getGenericType(context.getIdentifier().getType());
+            if (genericType == null) {
+                throw new InjectorException("Assisted factory fields must have concrete generic type. "
+                    + "Cannot get generic type for field in '" + context.getIdentifier().getTypeAsClass() + "'");
+            }
+            return new AssistedFactoryResolution<>(
+                constructorsByClass.computeIfAbsent(genericType, AssistedConstructor::create), context);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean hasStableResolutions() {
+        return true;
+    }
+
+    /**
+     * Resolution producing the assisted factory of a class for a given context.
+     *
+     * @param <T> the type of the objects to create
+     */
+    private static final class AssistedFactoryResolution<T> implements Resolution<AssistedFactory<T>> {
+
+        private final AssistedConstructor<T> constructor;
+        private final ResolutionContext objectContext;
+
+        AssistedFactoryResolution(AssistedConstructor<T> constructor, ResolutionContext factoryContext) {
+            this.constructor = constructor;
+            this.objectContext = factoryContext.createChildContext(
+                ObjectIdentifier.of(REQUEST_SCOPED, constructor.clazz));
+        }
+
+        @Override
+        public List<ObjectIdentifier> getDependencies() {
+            return constructor.dependencies;
+        }
+
+        @Override
+        public AssistedFactory<T> instantiateWith(Object... values) {
+            InjectorUtils.checkArgument(values.length == constructor.dependencies.size(),
+                "Number of values does not correspond to the expected number");
+            MethodHandle boundConstructor = MethodHandles.insertArguments(constructor.spreadConstructor, 0, values);
+            return assistedValues -> constructor.newInstance(boundConstructor, assistedValues, objectContext);
+        }
+    }
+
+    /**
+     * Constructor of a class created by an assisted factory, with a method handle taking the injected parameters
+     * followed by an array of the assisted values. As {@link Resolution}, it is passed to the post construct
+     * handlers of the created objects and takes the injected parameters as dependencies.
+     *
+     * @param <T> the type of the objects to create
+     */
+    private static final class AssistedConstructor<T> implements Resolution<T> {
+
+        private final Class<T> clazz;
+        private final MethodHandle spreadConstructor;
+        private final List<ObjectIdentifier> dependencies;
+        private final Class<?>[] assistedTypes;
+        private final Class<?>[] assistedWrapperTypes;
+        private final String assistedSignature;
+
+        private AssistedConstructor(Class<T> clazz, MethodHandle spreadConstructor,
+                                    List<ObjectIdentifier> dependencies, Class<?>[] assistedTypes) {
+            this.clazz = clazz;
+            this.spreadConstructor = spreadConstructor;
+            this.dependencies = dependencies;
+            this.assistedTypes = assistedTypes;
+            this.assistedWrapperTypes = new Class<?>[assistedTypes.length];
+            for (int i = 0; i < assistedTypes.length; ++i) {
+                assistedWrapperTypes[i] = toWrapperType(assistedTypes[i]);
+            }
+            this.assistedSignature = Arrays.stream(assistedTypes)
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", "(", ")"));
+        }
+
+        static <T> AssistedConstructor<T> create(Class<T> clazz) {
+            Constructor<T> constructor = getInjectConstructor(clazz);
+            validateFields(clazz);
+
+            final Type[] parameters = constructor.getGenericParameterTypes();
+            final Class<?>[] parameterTypes = constructor.getParameterTypes();
+            final Annotation[][] annotations = constructor.getParameterAnnotations();
+            List<ObjectIdentifier> dependencies = new ArrayList<>(parameters.length);
+            List<Integer> assistedIndices = new ArrayList<>(parameters.length);
+            for (int i = 0; i < parameters.length; ++i) {
+                if (isAssisted(annotations[i])) {
+                    assistedIndices.add(i);
+                } else {
+                    dependencies.add(ObjectIdentifier.of(SINGLETON, parameters[i], annotations[i]));
+                }
+            }
+
+            if (assistedIndices.isEmpty()) {
+                throw new InjectorException("The @Inject constructor of '" + clazz + "' has no @Assisted "
+                    + "parameters; inject a Provider to create objects without assisted values");
+            }
+
+            Class<?>[] assistedTypes = assistedIndices.stream().map(i -> parameterTypes[i]).toArray(Class<?>[]::new);
+            return new AssistedConstructor<>(clazz, createSpreadConstructor(constructor, assistedIndices),
+                Collections.unmodifiableList(dependencies), assistedTypes);
+        }
+
+        @Override
+        public List<ObjectIdentifier> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public T instantiateWith(Object... values) {
+            throw new InjectorException("Objects of '" + clazz + "' can only be created by an assisted factory");
+        }
+
+        @Override
+        public boolean isInstantiation() {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        T newInstance(MethodHandle boundConstructor, Object[] assistedValues, ResolutionContext context) {
+            if (assistedValues.length != assistedTypes.length) {
+                throw new InjectorException("Expected " + assistedTypes.length + " assisted values "
+                    + assistedSignature + " for " + clazz + " but got " + assistedValues.length);
+            }
+
+            final long start = System.nanoTime();
+            T object;
+            try {
+                object = (T) (Object) boundConstructor.invokeExact(assistedValues);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                if (e instanceof ClassCastException || e instanceof NullPointerException) {
+                    // Thrown by the method handle for values of the wrong type, or by the constructor itself
+                    validateAssistedValues(assistedValues);
+                }
+                throw new InjectorException("Could not invoke constructor of class '" + clazz + "'", e);
+            }
+            return context.getInjector().processConstructedObject(object, context, this, System.nanoTime() - start);
+        }
+
+        private void validateAssistedValues(Object[] assistedValues) {
+            for (int i = 0; i < assistedValues.length; ++i) {
+                Object value = assistedValues[i];
+                if (value == null ? assistedTypes[i].isPrimitive() : !assistedWrapperTypes[i].isInstance(value)) {
+                    throw new InjectorException("Assisted value " + (i + 1) + " for " + clazz + " must be of type "
+                        + assistedTypes[i] + " (expected assisted values: " + assistedSignature + ")");
+                }
+            }
+        }
+
+        /**
+         * Creates a method handle of the constructor taking the injected parameters as objects, followed by an
+         * array with the values of the assisted parameters.
+         *
+         * @param constructor the constructor
+         * @param assistedIndices indices of the assisted parameters
+         * @return the method handle
+         */
+        private static MethodHandle createSpreadConstructor(Constructor<?> constructor, List<Integer> assistedIndices) {
+            final Class<?>[] parameterTypes = constructor.getParameterTypes();
+            final int totalInjected = parameterTypes.length - assistedIndices.size();
+            // Order the parameters as injected parameters followed by assisted parameters
+            Class<?>[] orderedTypes = new Class<?>[parameterTypes.length];
+            int[] reorder = new int[parameterTypes.length];
+            int injectedIndex = 0;
+            for (int i = 0; i < parameterTypes.length; ++i) {
+                int assistedIndex = assistedIndices.indexOf(i);
+                reorder[i] = assistedIndex >= 0 ? totalInjected + assistedIndex : injectedIndex++;
+                orderedTypes[reorder[i]] = parameterTypes[i];
+            }
+
+            constructor.setAccessible(true);
+            try {
+                MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+                MethodType orderedType = MethodType.methodType(constructor.getDeclaringClass(), orderedTypes);
+                return MethodHandles.permuteArguments(handle, orderedType, reorder)
+                    .asType(MethodType.genericMethodType(parameterTypes.length))
+                    .asSpreader(Object[].class, assistedIndices.size());
+            } catch (IllegalAccessException e) {
+                throw new InjectorReflectionException("Could not access constructor of class '"
+                    + constructor.getDeclaringClass() + "'", e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Constructor<T> getInjectConstructor(Class<T> clazz) {
+            if (!InjectorUtils.canInstantiate(clazz)) {
+                throw new InjectorException("Assisted factory cannot create instances of '" + clazz + "'");
+            }
+            Constructor<?> injectConstructor = null;
+            for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+                if (constructor.isAnnotationPresent(Inject.class)) {
+                    if (injectConstructor != null) {
+                        throw new InjectorException("Class '" + clazz + "' may not have multiple @Inject constructors");
+                    }
+                    injectConstructor = constructor;
+                }
+            }
+            if (injectConstructor == null) {
+                throw new InjectorException("Class '" + clazz + "' must have an @Inject constructor "
+                    + "to be created by an assisted factory");
+            }
+            return (Constructor<T>) injectConstructor;
+        }
+
+        private static void validateFields(Class<?> clazz) {
+            Class<?> currentClass = clazz;
+            while (currentClass != null) {
+                for (Field field : ReflectionUtils.safeGetDeclaredFields(currentClass)) {
+                    if (field.isAnnotationPresent(Inject.class)) {
+                        throw new InjectorException("Assisted factories only support constructor injection, "
+                            + "but found @Inject on field '" + field + "'");
+                    }
+                }
+                currentClass = currentClass.getSuperclass();
+            }
+        }
+
+        private static boolean isAssisted(Annotation[] annotations) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Assisted) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Class<?> toWrapperType(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            } else if (type == int.class) {
+                return Integer.class;
+            } else if (type == long.class) {
+                return Long.class;
+            } else if (type == boolean.class) {
+                return Boolean.class;
+            } else if (type == double.class) {
+                return Double.class;
+            } else if (type == float.class) {
+                return Float.class;
+            } else if (type == short.class) {
+                return Short.class;
+            } else if (type == byte.class) {
+                return Byte.class;
+            }
+            return Character.class;
+        }
+    }
+}
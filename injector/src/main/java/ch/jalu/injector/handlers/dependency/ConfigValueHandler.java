@@ -0,0 +1,214 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.handlers.instantiation.SimpleResolution;
+import ch.jalu.injector.utils.InjectorUtils;
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import javax.annotation.Nullable;
+import javax.inject.Named;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Injects configuration values from a {@link PropertySource}. A dependency is resolved by this handler if its
+ * type has a converter (such as primitive types, their wrappers, {@link String}, {@link Duration} and enums) and
+ * if it has an annotation defining the configuration key: {@link Named} or an annotation added with
+ * {@link #addKeyAnnotation}, whose {@code value()} is the key.
+ * <p>
+ * Each value is converted once per type and kept, so that objects created subsequently with the same value
+ * do not need to parse it again. Durations can be specified in the ISO-8601 format (e.g. {@code PT30S})
+ * or as a number of milliseconds.
+ */
+public class ConfigValueHandler implements Handler {
+
+    private final PropertySource propertySource;
+    private final Map<Class<?>, Function<String, ?>> converters = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Annotation>, Method> keyMethodsByAnnotation = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Object>> convertedValues = new ConcurrentHashMap<>();
+    private final Map<Injector, Boolean> injectorsWithDeclines = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Constructor.
+     *
+     * @param propertySource the source of the configuration values
+     */
+    public ConfigValueHandler(PropertySource propertySource) {
+        InjectorUtils.checkNotNull(propertySource, "Property source may not be null");
+        this.propertySource = propertySource;
+        addKeyAnnotation(Named.class);
+        addDefaultConverters();
+    }
+
+    /**
+     * Adds an annotation type defining a configuration key. The annotation must have a String {@code value()}.
+     *
+     * @param annotationType the annotation type to add
+     */
+    public void addKeyAnnotation(Class<? extends Annotation> annotationType) {
+        try {
+            Method valueMethod = annotationType.getDeclaredMethod("value");
+            InjectorUtils.checkArgument(valueMethod.getReturnType() == String.class,
+                "The value() method of @" + annotationType.getSimpleName() + " must return a String");
+            valueMethod.setAccessible(true);
+            keyMethodsByAnnotation.put(annotationType, valueMethod);
+            clearInjectorResolutionCaches();
+        } catch (NoSuchMethodException e) {
+            throw new InjectorException("Annotation @" + annotationType.getSimpleName() + " has no value() method", e);
+        }
+    }
+
+    /**
+     * Registers a converter for the given type, replacing any existing converter for the type.
+     *
+     * @param type the type to convert to
+     * @param converter the converter creating a value of the type from the configuration value
+     * @param <T> the type
+     */
+    public <T> void registerConverter(Class<T> type, Function<String, ? extends T> converter) {
+        InjectorUtils.checkNotNull(converter, "Converter may not be null");
+        converters.put(type, converter);
+        convertedValues.remove(type);
+        clearInjectorResolutionCaches();
+    }
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        Class<?> type = context.getIdentifier().getTypeAsClass();
+        Function<String, ?> converter = getConverter(type);
+        String key = converter == null ? null : getKey(context);
+        if (key == null) {
+            injectorsWithDeclines.put(context.getInjector(), Boolean.TRUE);
+            return null;
+        }
+
+        Map<String, Object> valuesByKey = convertedValues.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        Object value = valuesByKey.get(key);
+        if (value == null) {
+            Object convertedValue = convert(key, type, converter);
+            Object existingValue = valuesByKey.putIfAbsent(key, convertedValue);
+            value = existingValue == null ? convertedValue : existingValue;
+        }
+        return new SimpleResolution<>(value);
+    }
+
+    @Override
+    public boolean hasStableResolutions() {
+        return true;
+    }
+
+    /**
+     * Clears the resolution caches of the injectors for which this handler declined a dependency, since the
+     * dependency might be resolvable after a change to the converters or key annotations.
+     */
+    private void clearInjectorResolutionCaches() {
+        synchronized (injectorsWithDeclines) {
+            injectorsWithDeclines.keySet().forEach(Injector::clearResolutionCaches);
+        }
+    }
+
+    @Nullable
+    private String getKey(ResolutionContext context) {
+        for (Annotation annotation : context.getIdentifier().getAnnotations()) {
+            Method keyMethod = keyMethodsByAnnotation.get(annotation.annotationType());
+            if (keyMethod != null) {
+                return (String) ReflectionUtils.invokeMethod(keyMethod, annotation);
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private Function<String, ?> getConverter(Class<?> type) {
+        Function<String, ?> converter = converters.get(type);
+        if (converter == null && type.isEnum()) {
+            return converters.computeIfAbsent(type, ConfigValueHandler::createEnumConverter);
+        }
+        return converter;
+    }
+
+    private Object convert(String key, Class<?> type, Function<String, ?> converter) {
+        String value = propertySource.getProperty(key);
+        if (value == null) {
+            throw new InjectorException("No configuration value found for key '" + key + "'");
+        }
+        Object convertedValue;
+        try {
+            convertedValue = converter.apply(value);
+        } catch (RuntimeException e) {
+            throw new InjectorException("Could not convert value '" + value + "' of key '" + key + "' to " + type, e);
+        }
+        if (convertedValue == null) {
+            throw new InjectorException("Converter for " + type + " returned null for key '" + key + "'");
+        }
+        return convertedValue;
+    }
+
+    private void addDefaultConverters() {
+        converters.put(String.class, Function.identity());
+        registerConverterForPrimitive(boolean.class, Boolean.class, value -> parseBoolean(value.trim()));
+        registerConverterForPrimitive(byte.class, Byte.class, value -> Byte.valueOf(value.trim()));
+        registerConverterForPrimitive(short.class, Short.class, value -> Short.valueOf(value.trim()));
+        registerConverterForPrimitive(int.class, Integer.class, value -> Integer.valueOf(value.trim()));
+        registerConverterForPrimitive(long.class, Long.class, value -> Long.valueOf(value.trim()));
+        registerConverterForPrimitive(float.class, Float.class, value -> Float.valueOf(value.trim()));
+        registerConverterForPrimitive(double.class, Double.class, value -> Double.valueOf(value.trim()));
+        registerConverterForPrimitive(char.class, Character.class, value -> {
+            InjectorUtils.checkArgument(value.length() == 1, "Expected a single character");
+            return value.charAt(0);
+        });
+        converters.put(Duration.class, value -> parseDuration(value.trim()));
+    }
+
+    private <T> void registerConverterForPrimitive(Class<?> primitiveType, Class<T> wrapperType,
+                                                   Function<String, T> converter) {
+        converters.put(primitiveType, converter);
+        converters.put(wrapperType, converter);
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        } else if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Expected 'true' or 'false'");
+    }
+
+    /**
+     * Creates a converter to the constants of the given enum type by name. Matches the behavior of
+     * {@link Enum#valueOf} without needing an unchecked cast to a specific enum class.
+     *
+     * @param enumType the enum type
+     * @return converter for the enum type
+     */
+    private static Function<String, Enum<?>> createEnumConverter(Class<?> enumType) {
+        return value -> {
+            String name = value.trim();
+            for (Object constant : enumType.getEnumConstants()) {
+                Enum<?> enumConstant = (Enum<?>) constant;
+                if (enumConstant.name().equals(name)) {
+                    return enumConstant;
+                }
+            }
+            throw new IllegalArgumentException("No enum constant " + enumType.getName() + "." + name);
+        };
+    }
+
+    private static Duration parseDuration(String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            return Duration.ofMillis(Long.parseLong(value));
+        }
+        return Duration.parse(value);
+    }
+}
@@ -34,7 +34,7 @@ public class CyclicDependenciesDetector implements Handler {
     private static ObjectIdentifier findRepeatedIdentifier(ResolutionContext context) {
         Set<Type> types = new HashSet<>();
         types.add(context.getIdentifier().getType());
-        for (ResolutionContext parent : context.getParents()) {
+        for (ResolutionContext parent = context.getParent(); parent != null; parent = parent.getParent()) {
             if (!types.add(parent.getIdentifier().getType())) {
                 return parent.getIdentifier();
             }
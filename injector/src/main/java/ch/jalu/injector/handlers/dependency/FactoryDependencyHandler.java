@@ -3,17 +3,49 @@ package ch.jalu.injector.handlers.dependency;
 import ch.jalu.injector.Injector;
 import ch.jalu.injector.context.ResolutionContext;
 import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.factory.AsyncProvider;
 import ch.jalu.injector.factory.Factory;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.instantiation.Resolution;
 import ch.jalu.injector.handlers.instantiation.SimpleResolution;
 import ch.jalu.injector.utils.ReflectionUtils;
 
+import javax.inject.Provider;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Dependency handler that builds {@link Factory} objects.
+ * <p>
+ * The factories keep a {@link Injector#getProvider provider} for each class they have been asked to create,
+ * so that repeated calls for the same class skip the resolution by the injector's handlers. The number of
+ * classes kept per factory is limited; further classes are resolved fully on each call. Asynchronous instantiations
+ * use the injector's {@link Injector#getAsyncProvider async providers} in the same manner.
  */
 public class FactoryDependencyHandler implements Handler {
 
+    /** Default number of classes per factory for which the resolution is kept. */
+    public static final int DEFAULT_MAX_CACHED_CLASSES = 256;
+
+    private final int maxCachedClasses;
+
+    /**
+     * Constructor.
+     */
+    public FactoryDependencyHandler() {
+        this(DEFAULT_MAX_CACHED_CLASSES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxCachedClasses maximum number of classes per factory for which the resolution is kept
+     */
+    public FactoryDependencyHandler(int maxCachedClasses) {
+        this.maxCachedClasses = maxCachedClasses;
+    }
+
     @Override
     public Resolution<?> resolve(ResolutionContext context) {
         final Class<?> clazz = context.getIdentifier().getTypeAsClass();
@@ -24,27 +56,59 @@ public class FactoryDependencyHandler implements Handler {
                     + "Cannot get generic type for field in '" + context.getIdentifier().getTypeAsClass() + "'");
             }
 
-            return new SimpleResolution<>(new FactoryImpl<>(genericType, context.getInjector()));
+            return new SimpleResolution<>(new FactoryImpl<>(genericType, context.getInjector(), maxCachedClasses));
         }
         return null;
     }
 
+    @Override
+    public boolean hasStableResolutions() {
+        return true;
+    }
+
     private static final class FactoryImpl<P> implements Factory<P> {
 
         private final Injector injector;
         private final Class<P> parentClass;
+        private final int maxCachedClasses;
+        private final Map<Class<?>, Provider<?>> providersByClass = new ConcurrentHashMap<>();
+        private final Map<Class<?>, AsyncProvider<?>> asyncProvidersByClass = new ConcurrentHashMap<>();
 
-        FactoryImpl(Class<P> parentClass, Injector injector) {
+        FactoryImpl(Class<P> parentClass, Injector injector, int maxCachedClasses) {
             this.parentClass = parentClass;
             this.injector = injector;
+            this.maxCachedClasses = maxCachedClasses;
         }
 
         @Override
         public <C extends P> C newInstance(Class<C> clazz) {
-            if (parentClass.isAssignableFrom(clazz)) {
-                return injector.newInstance(clazz);
+            Provider<?> provider = providersByClass.get(clazz);
+            if (provider == null) {
+                if (!parentClass.isAssignableFrom(clazz)) {
+                    throw new InjectorException(clazz + " not child of " + parentClass);
+                } else if (providersByClass.size() >= maxCachedClasses) {
+                    return injector.newInstance(clazz);
+                }
+                provider = providersByClass.computeIfAbsent(clazz, injector::getProvider);
+            }
+            return clazz.cast(provider.get());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <C extends P> CompletableFuture<C> newInstanceAsync(Class<C> clazz) {
+            AsyncProvider<?> provider = asyncProvidersByClass.get(clazz);
+            if (provider == null) {
+                if (!parentClass.isAssignableFrom(clazz)) {
+                    CompletableFuture<C> failedFuture = new CompletableFuture<>();
+                    failedFuture.completeExceptionally(new InjectorException(clazz + " not child of " + parentClass));
+                    return failedFuture;
+                } else if (asyncProvidersByClass.size() >= maxCachedClasses) {
+                    return injector.getAsyncProvider(clazz).getAsync();
+                }
+                provider = asyncProvidersByClass.computeIfAbsent(clazz, injector::getAsyncProvider);
             }
-            throw new InjectorException(clazz + " not child of " + parentClass);
+            return (CompletableFuture<C>) provider.getAsync();
         }
     }
 }
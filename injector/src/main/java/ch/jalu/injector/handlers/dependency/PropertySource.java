@@ -0,0 +1,41 @@
+package ch.jalu.injector.handlers.dependency;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Source of configuration values for the {@link ConfigValueHandler}.
+ */
+@FunctionalInterface
+public interface PropertySource {
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to look up
+     * @return the value, or null if the source has no value for the key
+     */
+    @Nullable
+    String getProperty(String key);
+
+    /**
+     * Creates a property source backed by the given map.
+     *
+     * @param values the values by key
+     * @return property source of the map
+     */
+    static PropertySource of(Map<String, String> values) {
+        return values::get;
+    }
+
+    /**
+     * Creates a property source backed by the given properties.
+     *
+     * @param properties the properties
+     * @return property source of the properties
+     */
+    static PropertySource of(Properties properties) {
+        return properties::getProperty;
+    }
+}
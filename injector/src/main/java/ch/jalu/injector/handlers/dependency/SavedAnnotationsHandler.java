@@ -35,6 +35,11 @@ public class SavedAnnotationsHandler implements Handler {
         return null;
     }
 
+    @Override
+    public boolean hasStableResolutions() {
+        return true;
+    }
+
     @Override
     public void onAnnotation(Class<? extends Annotation> annotation, Object object) {
         InjectorUtils.checkNotNull(object, "Object may not be null");
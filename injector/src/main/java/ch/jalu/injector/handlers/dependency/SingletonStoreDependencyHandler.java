@@ -30,6 +30,11 @@ public class SingletonStoreDependencyHandler implements Handler {
         return null;
     }
 
+    @Override
+    public boolean hasStableResolutions() {
+        return true;
+    }
+
     private static final class SingletonStoreImpl<P> implements SingletonStore<P> {
 
         private final Injector injector;
@@ -0,0 +1,58 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.utils.InjectorUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolution for classes without any dependencies (leaf types): the class is instantiated with its
+ * no-args constructor and has no fields to inject. The constructor is made accessible once so that
+ * each instantiation is a plain constructor call.
+ *
+ * @param <T> the type of the object to create
+ * @see StandardInjectionProvider
+ */
+public class LeafInjection<T> implements Resolution<T> {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Constructor<T> constructor;
+
+    /**
+     * Constructor.
+     *
+     * @param constructor the no-args constructor to create objects with
+     */
+    public LeafInjection(Constructor<T> constructor) {
+        InjectorUtils.checkArgument(constructor.getParameterCount() == 0,
+            "Constructor of " + constructor.getDeclaringClass() + " may not have any parameters");
+        constructor.setAccessible(true);
+        this.constructor = constructor;
+    }
+
+    @Override
+    public List<ObjectIdentifier> getDependencies() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public T instantiateWith(Object... values) {
+        InjectorUtils.checkArgument(values.length == 0, "No dependencies expected");
+        try {
+            return constructor.newInstance(NO_ARGUMENTS);
+        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new InjectorReflectionException("Could not invoke constructor of class '"
+                + constructor.getDeclaringClass() + "'", e);
+        }
+    }
+
+    @Override
+    public boolean isInstantiation() {
+        return true;
+    }
+}
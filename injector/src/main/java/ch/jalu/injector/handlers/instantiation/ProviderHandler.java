@@ -1,18 +1,22 @@
 package ch.jalu.injector.handlers.instantiation;
 
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.annotations.Memoized;
 import ch.jalu.injector.context.ObjectIdentifier;
 import ch.jalu.injector.context.ResolutionContext;
 import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.factory.AsyncProvider;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.utils.InjectorUtils;
 import ch.jalu.injector.utils.ReflectionUtils;
 
 import javax.annotation.Nullable;
 import javax.inject.Provider;
+import java.lang.annotation.Annotation;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
 import static ch.jalu.injector.utils.InjectorUtils.checkArgument;
@@ -20,45 +24,104 @@ import static ch.jalu.injector.utils.InjectorUtils.checkArgument;
 /**
  * Default handler for {@link Provider} objects. Registers providers and classes and creates
  * {@link Resolution} objects for classes it can handle.
+ * <p>
+ * Providers may be registered and looked up concurrently. Provider classes are requested as singletons
+ * from the injector, which guarantees that they are only instantiated once.
+ * <p>
+ * If no provider is registered for the type of an injected {@code Provider}, the injector's
+ * {@link Injector#getProvider(Class) default provider} is injected, which resolves the type only once.
+ * Injected providers annotated with {@link Memoized} return the type's singleton instead.
+ * Injected {@link AsyncProvider async providers} are obtained from the injector in the same way.
  */
 public class ProviderHandler implements Handler {
 
-    protected Map<Class<?>, ProviderBasedInstantiation<?>> providers = new HashMap<>();
+    protected Map<Class<?>, ProviderBasedInstantiation<?>> providers = new ConcurrentHashMap<>();
 
     @Override
     public <T> void onProvider(Class<T> clazz, Provider<? extends T> provider) {
-        checkArgument(!providers.containsKey(clazz), "Provider already registered for " + clazz);
-        providers.put(clazz, new InstantiationByProvider<>(provider));
+        registerInstantiation(clazz, new InstantiationByProvider<>(provider));
     }
 
     @Override
     public <T, P extends Provider<? extends T>> void onProviderClass(Class<T> clazz, Class<P> providerClass) {
-        checkArgument(!providers.containsKey(clazz), "Provider already registered for " + clazz);
-        providers.put(clazz, new InstantiationByProviderClass<>(providerClass));
+        registerInstantiation(clazz, new InstantiationByProviderClass<>(providerClass));
+    }
+
+    private void registerInstantiation(Class<?> clazz, ProviderBasedInstantiation<?> instantiation) {
+        checkArgument(providers.putIfAbsent(clazz, instantiation) == null, "Provider already registered for " + clazz);
     }
 
     @Override
     public Resolution<?> resolve(ResolutionContext context) {
         if (Provider.class.equals(context.getIdentifier().getTypeAsClass())) {
             return handleProviderRequest(context);
+        } else if (AsyncProvider.class.equals(context.getIdentifier().getTypeAsClass())) {
+            Class<?> genericType = ReflectionUtils.getGenericType(context.getIdentifier().getType());
+            if (genericType == null) {
+                throw new InjectorException(
+                    "Injection of an async provider was requested but no generic type was given");
+            }
+            return new SimpleResolution<>(context.getInjector().getAsyncProvider(genericType));
         }
         return providers.get(context.getIdentifier().getTypeAsClass());
     }
 
+    @Override
+    public boolean hasStableResolutions() {
+        return true;
+    }
+
     @Nullable
     private Resolution<?> handleProviderRequest(ResolutionContext context) {
         Class<?> genericType = ReflectionUtils.getGenericType(context.getIdentifier().getType());
         if (genericType == null) {
             throw new InjectorException("Injection of a provider was requested but no generic type was given");
         }
+        if (isMemoized(context)) {
+            return new SimpleResolution<>(new MemoizingProvider<>(context.getInjector(), genericType));
+        }
         ProviderBasedInstantiation<?> givenInstantiation = providers.get(genericType);
         if (givenInstantiation == null) {
-            Provider<?> defaultProvider = () -> context.getInjector().newInstance(genericType);
-            return new SimpleResolution<>(defaultProvider);
+            return new SimpleResolution<>(context.getInjector().getProvider(genericType));
         }
         return givenInstantiation.createProviderResolution();
     }
 
+    private static boolean isMemoized(ResolutionContext context) {
+        for (Annotation annotation : context.getIdentifier().getAnnotations()) {
+            if (annotation instanceof Memoized) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Provider which returns the singleton of its type, retrieving it from the injector on the first call.
+     *
+     * @param <T> the object type
+     */
+    private static final class MemoizingProvider<T> implements Provider<T> {
+        private final Injector injector;
+        private final Class<T> clazz;
+        private volatile T instance;
+
+        MemoizingProvider(Injector injector, Class<T> clazz) {
+            this.injector = injector;
+            this.clazz = clazz;
+        }
+
+        @Override
+        public T get() {
+            T currentInstance = instance;
+            if (currentInstance == null) {
+                currentInstance = injector.getSingleton(clazz);
+                instance = currentInstance;
+            }
+            return currentInstance;
+        }
+    }
+
     /**
      * Resolution that instantiates an object with a predefined Provider.
      *
@@ -118,7 +181,7 @@ public class ProviderHandler implements Handler {
 
         @Override
         public List<ObjectIdentifier> getDependencies() {
-            return Collections.singletonList(new ObjectIdentifier(SINGLETON, providerClass));
+            return Collections.singletonList(ObjectIdentifier.of(SINGLETON, providerClass));
         }
 
         @Override
@@ -143,7 +206,7 @@ public class ProviderHandler implements Handler {
             return new Resolution<Provider<? extends T>>() {
                 @Override
                 public List<ObjectIdentifier> getDependencies() {
-                    return Collections.singletonList(new ObjectIdentifier(SINGLETON, providerClass));
+                    return Collections.singletonList(ObjectIdentifier.of(SINGLETON, providerClass));
                 }
 
                 @Override
@@ -5,27 +5,35 @@ import ch.jalu.injector.utils.InjectorUtils;
 import ch.jalu.injector.utils.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
-import java.lang.ref.SoftReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 
 import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
 
 /**
  * The injector's default instantiation method; injects constructor and fields.
+ * <p>
+ * The dependencies are computed once on creation and are held in an array, so that the reflective lookup of
+ * parameter types and annotations is not repeated for each instantiation. {@link #getDependencies()} returns an
+ * unmodifiable list view of the array: with compressed references, the dependencies take 48, 56 and 72 bytes for
+ * 1, 3 and 8 dependencies (the array and a 24-byte view), not counting the interned identifiers themselves.
  *
  * @see StandardInjectionProvider
  */
 public class StandardInjection<T> implements Resolution<T> {
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
     private final Constructor<T> constructor;
-    private final List<Field> fields;
-    private SoftReference<List<ObjectIdentifier>> dependencies;
+    private final Field[] fields;
+    private final int constructorParameterCount;
+    private final ObjectIdentifier[] dependencies;
+    private final List<ObjectIdentifier> dependencyList;
 
     /**
      * Constructs a standard injection object.
@@ -35,38 +43,46 @@ public class StandardInjection<T> implements Resolution<T> {
      */
     public StandardInjection(Constructor<T> constructor, List<Field> fields) {
         this.constructor = constructor;
-        this.fields = fields;
+        this.fields = fields.toArray(new Field[0]);
+        this.constructorParameterCount = constructor.getParameterCount();
+        this.dependencies = buildDependencies();
+        this.dependencyList = new DependencyList(dependencies);
     }
 
     @Override
     public List<ObjectIdentifier> getDependencies() {
-        List<ObjectIdentifier> depList = dependencies == null ? null : dependencies.get();
-        if (depList == null) {
-            List<ObjectIdentifier> constructorDeps = buildConstructorDependencies();
-            List<ObjectIdentifier> fieldDeps = buildFieldDependencies();
-
-            depList = new ArrayList<>(constructorDeps.size() + fieldDeps.size());
-            depList.addAll(constructorDeps);
-            depList.addAll(fieldDeps);
-            this.dependencies = new SoftReference<>(depList);
-        }
-        return depList;
+        return dependencyList;
     }
 
+    /**
+     * Creates the object with the given values, which are in the order of {@link #getDependencies()}. The values
+     * array is passed to the constructor as is if there are no fields to inject. Otherwise, the constructor values
+     * are copied into an array of their own, as reflective constructor calls require an array of the exact size;
+     * this is the only allocation of this method besides the object itself.
+     *
+     * @param values the values of the dependencies
+     * @return the created object
+     */
     @Override
     public T instantiateWith(Object... values) {
         // Check no null values & correct size
-        InjectorUtils.checkArgument(values.length == constructor.getParameterTypes().length + fields.size(),
+        InjectorUtils.checkArgument(values.length == dependencies.length,
             "Number of values does not correspond to the expected number");
 
         // Constructor injection
-        final int constructorParams = constructor.getParameterTypes().length;
-        final List<Object> constructorValues = Arrays.asList(values).subList(0, constructorParams);
-        T instance = ReflectionUtils.newInstance(constructor, constructorValues.toArray());
+        final Object[] constructorValues;
+        if (fields.length == 0) {
+            constructorValues = values;
+        } else if (constructorParameterCount == 0) {
+            constructorValues = NO_ARGUMENTS;
+        } else {
+            constructorValues = Arrays.copyOf(values, constructorParameterCount);
+        }
+        T instance = ReflectionUtils.newInstance(constructor, constructorValues);
 
         // Field injection
-        for (int i = 0; i < fields.size(); ++i) {
-            ReflectionUtils.setField(fields.get(i), instance, values[i + constructorParams]);
+        for (int i = 0; i < fields.length; ++i) {
+            ReflectionUtils.setField(fields[i], instance, values[i + constructorParameterCount]);
         }
         return instance;
     }
@@ -76,20 +92,41 @@ public class StandardInjection<T> implements Resolution<T> {
         return true;
     }
 
-    private List<ObjectIdentifier> buildConstructorDependencies() {
+    private ObjectIdentifier[] buildDependencies() {
         final Type[] parameters = constructor.getGenericParameterTypes();
         final Annotation[][] annotations = constructor.getParameterAnnotations();
 
-        List<ObjectIdentifier> dependencies = new ArrayList<>(parameters.length);
+        ObjectIdentifier[] dependencies = new ObjectIdentifier[parameters.length + fields.length];
         for (int i = 0; i < parameters.length; ++i) {
-            dependencies.add(new ObjectIdentifier(SINGLETON, parameters[i], annotations[i]));
+            dependencies[i] = ObjectIdentifier.of(SINGLETON, parameters[i], annotations[i]);
+        }
+        for (int i = 0; i < fields.length; ++i) {
+            Field field = fields[i];
+            dependencies[parameters.length + i] = ObjectIdentifier.of(SINGLETON, field.getGenericType(),
+                field.getAnnotations());
         }
         return dependencies;
     }
 
-    private List<ObjectIdentifier> buildFieldDependencies() {
-        return fields.stream()
-            .map(f -> new ObjectIdentifier(SINGLETON, f.getGenericType(), f.getAnnotations()))
-            .collect(Collectors.toList());
+    /**
+     * Unmodifiable list view of the dependency array.
+     */
+    private static final class DependencyList extends AbstractList<ObjectIdentifier> implements RandomAccess {
+
+        private final ObjectIdentifier[] dependencies;
+
+        DependencyList(ObjectIdentifier[] dependencies) {
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        public ObjectIdentifier get(int index) {
+            return dependencies[index];
+        }
+
+        @Override
+        public int size() {
+            return dependencies.length;
+        }
     }
 }
@@ -11,6 +11,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider of {@link Resolution} objects that roughly follows the documentation as given in {@link Inject}.
@@ -29,11 +31,23 @@ import java.util.List;
  * any of its parents, an exception is thrown.
  * <p>
  * {@link ch.jalu.injector.annotations.NoMethodScan} and {@link ch.jalu.injector.annotations.NoFieldScan} are respected.
+ * <p>
+ * Classes without any dependencies (no-args constructor and no fields to inject) are detected once and
+ * resolved with a {@link LeafInjection}, which is kept for subsequent requests. Override
+ * {@link #shouldCacheResolution} to keep other resolutions as well.
  */
 public class StandardInjectionProvider extends DirectInstantiationProvider {
 
+    protected Map<Class<?>, Resolution<?>> cachedResolutions = new ConcurrentHashMap<>();
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> Resolution<T> safeGet(Class<T> clazz) {
+        Resolution<?> cachedResolution = cachedResolutions.get(clazz);
+        if (cachedResolution != null) {
+            return (Resolution<T>) cachedResolution;
+        }
+
         Constructor<T> constructor = getInjectionConstructor(clazz);
         if (constructor == null) {
             return null;
@@ -41,7 +55,25 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
 
         List<Field> fields = getFieldsToInject(clazz);
         validateInjection(clazz, constructor, fields);
-        return new StandardInjection<>(constructor, fields);
+        Resolution<T> resolution = constructor.getParameterCount() == 0 && fields.isEmpty()
+            ? new LeafInjection<>(constructor)
+            : new StandardInjection<>(constructor, fields);
+        if (shouldCacheResolution(clazz, resolution)) {
+            cachedResolutions.put(clazz, resolution);
+        }
+        return resolution;
+    }
+
+    /**
+     * Returns whether the resolution created for the given class should be kept and returned for subsequent
+     * requests of the same class. By default, only resolutions of classes without any dependencies are kept.
+     *
+     * @param clazz the class the resolution was created for
+     * @param resolution the created resolution
+     * @return true to keep the resolution, false otherwise
+     */
+    protected boolean shouldCacheResolution(Class<?> clazz, Resolution<?> resolution) {
+        return resolution instanceof LeafInjection;
     }
 
     // -------------
@@ -0,0 +1,212 @@
+package ch.jalu.injector.handlers.postconstruct;
+
+import ch.jalu.injector.annotations.AsyncPostConstruct;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.context.StandardResolutionType;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static ch.jalu.injector.utils.InjectorUtils.checkNotNull;
+
+/**
+ * Runs {@link AsyncPostConstruct} methods asynchronously on an executor. This handler is not part of the
+ * default handlers and must be added explicitly.
+ * <p>
+ * The asynchronous initialization of an object starts once the initialization of its singleton dependencies has
+ * completed; objects are therefore constructed right away while their initializations run in parallel where the
+ * dependencies allow it. Note that {@link javax.annotation.PostConstruct} methods are still run synchronously and
+ * may not rely on the asynchronous initialization of the object's dependencies.
+ * <p>
+ * The initialization of an object can be obtained with {@link #getInitialization} or, for singletons, with
+ * {@link ch.jalu.injector.Injector#getSingletonAsync}. Optionally, the handler waits for the initialization
+ * of objects that are requested directly (i.e. not as a dependency of another object), such that
+ * {@link ch.jalu.injector.Injector#getSingleton} returns fully initialized singletons. The handler waits in
+ * {@link #onDirectRequest}, after the injector has released its locks, so that the asynchronous initialization
+ * may request other singletons from the injector. Objects requested while the injector creates a singleton,
+ * e.g. from a {@link javax.annotation.PostConstruct} method, are returned without waiting.
+ * <p>
+ * Initializations are forgotten once they have completed. Failed initializations of singletons are kept so that
+ * their error can be retrieved with {@link ch.jalu.injector.Injector#getSingletonAsync}.
+ */
+public class AsyncPostConstructMethodInvoker implements Handler {
+
+    protected Map<Class<?>, List<Method>> asyncMethodsByClass = new ConcurrentHashMap<>();
+    private final Map<Object, CompletableFuture<Void>> pendingInitializations =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Executor executor;
+    private final boolean awaitDirectRequests;
+
+    /**
+     * Constructor. Objects are returned from the injector without waiting for their initialization.
+     *
+     * @param executor the executor to run the initializations on
+     */
+    public AsyncPostConstructMethodInvoker(Executor executor) {
+        this(executor, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor the executor to run the initializations on
+     * @param awaitDirectRequests true to wait for the initialization of objects that are requested directly
+     *                            from the injector, false to return them while they are being initialized
+     */
+    public AsyncPostConstructMethodInvoker(Executor executor, boolean awaitDirectRequests) {
+        checkNotNull(executor, "Executor may not be null");
+        this.executor = executor;
+        this.awaitDirectRequests = awaitDirectRequests;
+    }
+
+    @Override
+    public <T> T postProcess(T object, ResolutionContext context, Resolution<?> resolution) {
+        List<Method> asyncMethods = asyncMethodsByClass
+            .computeIfAbsent(object.getClass(), AsyncPostConstructMethodInvoker::getAsyncPostConstructMethods);
+        CompletableFuture<Void> dependencies = getDependencyInitializations(context, resolution);
+        if (asyncMethods.isEmpty() && dependencies == null) {
+            return null;
+        }
+
+        CompletableFuture<Void> initialization = dependencies == null
+            ? CompletableFuture.completedFuture(null)
+            : dependencies;
+        for (Method method : asyncMethods) {
+            initialization = initialization.thenComposeAsync(v -> invokeAsyncMethod(method, object), executor);
+        }
+        trackInitialization(object, initialization,
+            context.getIdentifier().getResolutionType() == StandardResolutionType.SINGLETON);
+        return null;
+    }
+
+    @Override
+    public void onDirectRequest(Object object) {
+        if (awaitDirectRequests) {
+            CompletableFuture<Void> initialization = pendingInitializations.get(object);
+            if (initialization != null) {
+                initialization.join();
+            }
+        }
+    }
+
+    /**
+     * Returns the pending initialization of the given object.
+     *
+     * @param object the object to get the initialization of
+     * @return the initialization of the object, or null if it has no pending initialization
+     */
+    @Override
+    @Nullable
+    public CompletableFuture<?> getInitialization(Object object) {
+        return pendingInitializations.get(object);
+    }
+
+    /**
+     * Combines the pending initializations of the singleton dependencies of the given resolution.
+     *
+     * @param context the context the object was created for
+     * @param resolution the resolution the object was created with
+     * @return future completing when all dependencies are initialized, or null if there is no pending initialization
+     */
+    @Nullable
+    private CompletableFuture<Void> getDependencyInitializations(ResolutionContext context,
+                                                                 Resolution<?> resolution) {
+        List<CompletableFuture<Void>> initializations = null;
+        for (ObjectIdentifier dependency : resolution.getDependencies()) {
+            if (dependency.getResolutionType() == StandardResolutionType.SINGLETON) {
+                Object dependencyObject = context.getInjector().getIfAvailable(dependency.getBindingKey());
+                CompletableFuture<Void> initialization = dependencyObject == null
+                    ? null
+                    : pendingInitializations.get(dependencyObject);
+                if (initialization != null) {
+                    if (initializations == null) {
+                        initializations = new ArrayList<>();
+                    }
+                    initializations.add(initialization);
+                }
+            }
+        }
+        return initializations == null
+            ? null
+            : CompletableFuture.allOf(initializations.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private void trackInitialization(Object object, CompletableFuture<Void> initialization, boolean isSingleton) {
+        pendingInitializations.put(object, initialization);
+        // Keep failed initializations of singletons so that their errors can be retrieved
+        CompletableFuture<Void> trackedInitialization = initialization.whenComplete((result, error) -> {
+            if (error == null || !isSingleton) {
+                pendingInitializations.remove(object);
+            }
+        });
+        // Expose the stage that completes after the removal, so that callers waiting on it never see a stale entry.
+        // If the initialization has already completed, the entry was removed above and is not replaced
+        pendingInitializations.replace(object, initialization, trackedInitialization);
+    }
+
+    private static CompletableFuture<Void> invokeAsyncMethod(Method method, Object object) {
+        Object result = ReflectionUtils.invokeMethod(method, object);
+        return result == null
+            ? CompletableFuture.completedFuture(null)
+            : ((CompletionStage<?>) result).toCompletableFuture().thenApply(r -> null);
+    }
+
+    /**
+     * Returns the async post construct methods of the given class and its parents, starting with the topmost parent.
+     *
+     * @param clazz the class to process
+     * @return the async post construct methods to run
+     */
+    private static List<Method> getAsyncPostConstructMethods(Class<?> clazz) {
+        List<Method> asyncMethods = new ArrayList<>();
+        Class<?> currentClass = clazz;
+        while (currentClass != null) {
+            Method asyncMethod = getAndValidateAsyncMethod(currentClass);
+            if (asyncMethod != null) {
+                asyncMethods.add(0, asyncMethod);
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return asyncMethods.isEmpty()
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(asyncMethods);
+    }
+
+    @Nullable
+    private static Method getAndValidateAsyncMethod(Class<?> clazz) {
+        Method asyncMethod = null;
+        for (Method method : ReflectionUtils.safeGetDeclaredMethods(clazz)) {
+            if (method.isAnnotationPresent(AsyncPostConstruct.class)) {
+                if (asyncMethod != null) {
+                    throw new InjectorException("Multiple methods with @AsyncPostConstruct in " + clazz);
+                } else if (method.getParameterTypes().length > 0 || Modifier.isStatic(method.getModifiers())) {
+                    throw new InjectorException("@AsyncPostConstruct method may not be static or have any "
+                        + "parameters. Invalid method in " + clazz);
+                } else if (method.getReturnType() != void.class
+                    && !CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+                    throw new InjectorException("@AsyncPostConstruct method must return void or a CompletionStage. "
+                        + "Offending class: " + clazz);
+                } else {
+                    method.setAccessible(true);
+                    asyncMethod = method;
+                }
+            }
+        }
+        return asyncMethod;
+    }
+}
@@ -11,24 +11,38 @@ import javax.annotation.PostConstruct;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Searches newly instantiated classes for {@link PostConstruct} method
  * and validates their usage before executing it.
+ * <p>
+ * The post construct methods of a class are looked up once and kept for subsequent objects of the same class,
+ * so classes without any {@code @PostConstruct} methods are skipped without scanning them again.
  */
 public class PostConstructMethodInvoker implements Handler {
 
+    protected Map<Class<?>, List<Method>> postConstructMethodsByClass = new ConcurrentHashMap<>();
+
     @Override
     public <T> T postProcess(T object, ResolutionContext context, Resolution<?> resolution) {
-        Class<?> clazz = object.getClass();
-        List<Method> postConstructMethods = getPostConstructMethods(clazz);
+        List<Method> postConstructMethods = postConstructMethodsByClass
+            .computeIfAbsent(object.getClass(), PostConstructMethodInvoker::getPostConstructMethods);
         for (int i = postConstructMethods.size() - 1; i >= 0; --i) {
             ReflectionUtils.invokeMethod(postConstructMethods.get(i), object);
         }
         return null;
     }
 
+    /**
+     * Returns the post construct methods of the given class and its parents, starting with the given class.
+     *
+     * @param clazz the class to process
+     * @return the post construct methods to run (in reverse order)
+     */
     private static List<Method> getPostConstructMethods(Class<?> clazz) {
         List<Method> postConstructMethods = new ArrayList<>();
         Class<?> currentClass = clazz;
@@ -39,7 +53,9 @@ public class PostConstructMethodInvoker implements Handler {
             }
             currentClass = currentClass.getSuperclass();
         }
-        return postConstructMethods;
+        return postConstructMethods.isEmpty()
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(postConstructMethods);
     }
 
     @Nullable
@@ -0,0 +1,78 @@
+package ch.jalu.injector.handlers.predestroy;
+
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invokes the {@link PreDestroy} methods of singletons when the injector is closed. The methods of a class
+ * are run before the methods of its parents. As with {@link javax.annotation.PostConstruct}, a class may have
+ * at most one such method, which must be non-static, parameterless and return void.
+ * <p>
+ * The pre destroy methods of a class are looked up once and kept for subsequent objects of the same class.
+ */
+public class PreDestroyMethodInvoker implements Handler {
+
+    protected Map<Class<?>, List<Method>> preDestroyMethodsByClass = new ConcurrentHashMap<>();
+
+    @Override
+    public void preDestroy(Object object) {
+        List<Method> preDestroyMethods = preDestroyMethodsByClass
+            .computeIfAbsent(object.getClass(), PreDestroyMethodInvoker::getPreDestroyMethods);
+        for (Method method : preDestroyMethods) {
+            ReflectionUtils.invokeMethod(method, object);
+        }
+    }
+
+    /**
+     * Returns the pre destroy methods of the given class and its parents, starting with the given class.
+     *
+     * @param clazz the class to process
+     * @return the pre destroy methods to run
+     */
+    private static List<Method> getPreDestroyMethods(Class<?> clazz) {
+        List<Method> preDestroyMethods = new ArrayList<>();
+        Class<?> currentClass = clazz;
+        while (currentClass != null) {
+            Method preDestroy = getAndValidatePreDestroyMethod(currentClass);
+            if (preDestroy != null) {
+                preDestroyMethods.add(preDestroy);
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return preDestroyMethods.isEmpty()
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(preDestroyMethods);
+    }
+
+    @Nullable
+    private static Method getAndValidatePreDestroyMethod(Class<?> clazz) {
+        Method preDestroyMethod = null;
+        for (Method method : ReflectionUtils.safeGetDeclaredMethods(clazz)) {
+            if (method.isAnnotationPresent(PreDestroy.class)) {
+                if (preDestroyMethod != null) {
+                    throw new InjectorException("Multiple methods with @PreDestroy in " + clazz);
+                } else if (method.getParameterTypes().length > 0 || Modifier.isStatic(method.getModifiers())) {
+                    throw new InjectorException("@PreDestroy method may not be static or have any parameters. "
+                        + "Invalid method in " + clazz);
+                } else if (method.getReturnType() != void.class) {
+                    throw new InjectorException("@PreDestroy method must have return type void. "
+                        + "Offending class: " + clazz);
+                } else {
+                    preDestroyMethod = method;
+                }
+            }
+        }
+        return preDestroyMethod;
+    }
+}
@@ -0,0 +1,71 @@
+package ch.jalu.injector.lifecycle;
+
+import ch.jalu.injector.context.BindingKey;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of {@link SingletonRefresher#refresh}: the waves the singletons were processed in, and the time it took
+ * to run the callback for each singleton.
+ */
+public class RefreshResult {
+
+    private final List<List<BindingKey>> waves;
+    private final Map<BindingKey, Long> nanosByKey;
+
+    /**
+     * Constructor.
+     *
+     * @param waves the waves of singleton keys
+     * @param nanosByKey time in nanoseconds the callback took, by singleton key
+     */
+    public RefreshResult(List<List<BindingKey>> waves, Map<BindingKey, Long> nanosByKey) {
+        List<List<BindingKey>> unmodifiableWaves = new ArrayList<>(waves.size());
+        for (List<BindingKey> wave : waves) {
+            unmodifiableWaves.add(Collections.unmodifiableList(wave));
+        }
+        this.waves = Collections.unmodifiableList(unmodifiableWaves);
+        this.nanosByKey = Collections.unmodifiableMap(nanosByKey);
+    }
+
+    /**
+     * @return the waves of singleton keys, in the order they were processed
+     */
+    public List<List<BindingKey>> getWaves() {
+        return waves;
+    }
+
+    /**
+     * Returns the time in nanoseconds the callback took for the singleton registered as the given type
+     * without qualifier.
+     *
+     * @param singletonType the type the singleton is registered as
+     * @return the time in nanoseconds, or null if the singleton was not processed
+     */
+    @Nullable
+    public Long getNanos(Class<?> singletonType) {
+        return nanosByKey.get(BindingKey.of(singletonType));
+    }
+
+    /**
+     * Returns the time in nanoseconds the callback took for the singleton registered with the given key.
+     *
+     * @param singletonKey the key the singleton is registered with
+     * @return the time in nanoseconds, or null if the singleton was not processed
+     */
+    @Nullable
+    public Long getNanos(BindingKey singletonKey) {
+        return nanosByKey.get(singletonKey);
+    }
+
+    /**
+     * @return time in nanoseconds the callback took, by singleton key
+     */
+    public Map<BindingKey, Long> getNanosByKey() {
+        return nanosByKey;
+    }
+}
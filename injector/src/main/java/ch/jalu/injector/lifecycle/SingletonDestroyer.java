@@ -0,0 +1,125 @@
+package ch.jalu.injector.lifecycle;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.graph.SingletonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static ch.jalu.injector.utils.InjectorUtils.checkNotNull;
+
+/**
+ * Destroys the singletons an injector has created, in reverse dependency order: a singleton is only destroyed
+ * once all singletons depending on it have been destroyed. Singletons which do not depend on each other are
+ * destroyed in parallel on the given executor. Objects that were registered into the injector are not destroyed.
+ */
+public class SingletonDestroyer {
+
+    private final Injector injector;
+    private final Executor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param injector the injector whose singletons should be destroyed
+     * @param executor the executor to destroy singletons with
+     */
+    public SingletonDestroyer(Injector injector, Executor executor) {
+        checkNotNull(injector, "Injector may not be null");
+        checkNotNull(executor, "Executor may not be null");
+        this.injector = injector;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the destroy action on all singletons created by the injector. If the action fails for a singleton,
+     * the remaining singletons are still destroyed and an exception is thrown at the end. If the singletons
+     * could not be destroyed within the given time, an exception is thrown without waiting for the pending
+     * singletons.
+     *
+     * @param destroyAction the action to run on each singleton
+     * @param timeout the maximum time to wait for all singletons to be destroyed
+     * @param unit the unit of the timeout
+     */
+    public void destroy(Consumer<Object> destroyAction, long timeout, TimeUnit unit) {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<List<BindingKey>> waves = computeWaves();
+        List<Throwable> failures = new ArrayList<>();
+
+        for (List<BindingKey> wave : waves) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(wave.size());
+            for (BindingKey singletonKey : wave) {
+                Object singleton = injector.getIfAvailable(singletonKey);
+                // Singleton may be null if it is reclaimable and has been garbage collected
+                futures.add(singleton == null
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.runAsync(() -> destroyAction.accept(singleton), executor));
+            }
+            awaitWave(wave, futures, deadline, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            InjectorException exception = new InjectorException("Failed to destroy " + failures.size()
+                + " singleton(s)", failures.get(0));
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Computes the waves in which the singletons are destroyed: a singleton is in an earlier wave than all
+     * singletons it depends on.
+     *
+     * @return the waves of singleton keys (the keys they are registered with in the injector)
+     */
+    public List<List<BindingKey>> computeWaves() {
+        List<List<BindingKey>> waves = SingletonWaves.compute(injector, Object.class, SingletonNode::isInstantiated);
+        Collections.reverse(waves);
+        return waves;
+    }
+
+    private static void awaitWave(List<BindingKey> wave, List<CompletableFuture<Void>> futures, long deadline,
+                                  List<Throwable> failures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Handled below for each future
+        } catch (TimeoutException e) {
+            throw new InjectorException("Could not destroy all singletons before the deadline. Pending singletons: "
+                + getPendingKeys(wave, futures), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InjectorException("Interrupted while destroying singletons", e);
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                try {
+                    future.join();
+                } catch (RuntimeException e) {
+                    failures.add(e.getCause() == null ? e : e.getCause());
+                }
+            }
+        }
+    }
+
+    private static List<BindingKey> getPendingKeys(List<BindingKey> wave, List<CompletableFuture<Void>> futures) {
+        List<BindingKey> pendingKeys = new ArrayList<>();
+        for (int i = 0; i < wave.size(); ++i) {
+            if (!futures.get(i).isDone()) {
+                pendingKeys.add(wave.get(i));
+            }
+        }
+        return pendingKeys;
+    }
+}
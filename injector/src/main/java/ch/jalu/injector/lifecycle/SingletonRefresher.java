@@ -0,0 +1,114 @@
+package ch.jalu.injector.lifecycle;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.graph.DependencyGraph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static ch.jalu.injector.utils.InjectorUtils.checkNotNull;
+
+/**
+ * Runs a callback (such as a reload method) on all singletons of a given type, respecting the dependencies
+ * between them: a singleton is only processed once all singletons of the type it depends on have been processed.
+ * The dependencies are taken from the injector's {@link DependencyGraph}; indirect dependencies via singletons
+ * of other types are taken into account.
+ * <p>
+ * The singletons are processed in waves: all singletons of a wave are independent of each other and are
+ * processed in parallel on the refresher's executor. The next wave is started once all singletons of
+ * the current wave have been processed.
+ */
+public class SingletonRefresher {
+
+    private final Injector injector;
+    private final Executor executor;
+
+    /**
+     * Constructor. Singletons are processed on the common fork join pool.
+     *
+     * @param injector the injector whose singletons should be processed
+     */
+    public SingletonRefresher(Injector injector) {
+        this(injector, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param injector the injector whose singletons should be processed
+     * @param executor the executor to process singletons with
+     */
+    public SingletonRefresher(Injector injector, Executor executor) {
+        checkNotNull(injector, "Injector may not be null");
+        checkNotNull(executor, "Executor may not be null");
+        this.injector = injector;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the callback on all singletons of the given type. If the callback throws an exception, the singletons
+     * of the current wave are still processed but no subsequent wave is started, and an {@link InjectorException}
+     * with the callback's exception as cause is thrown.
+     *
+     * @param type the type of the singletons to process (typically a marker interface)
+     * @param callback the callback to run for each singleton
+     * @param <T> the type
+     * @return result with the processed waves and the time per singleton
+     */
+    public <T> RefreshResult refresh(Class<T> type, Consumer<? super T> callback) {
+        List<List<BindingKey>> waves = computeWaves(type);
+        Map<BindingKey, Long> nanosByKey = new HashMap<>();
+        for (List<BindingKey> wave : waves) {
+            List<CompletableFuture<Long>> futures = new ArrayList<>(wave.size());
+            for (BindingKey singletonKey : wave) {
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> runCallback(type, singletonKey, callback), executor));
+            }
+            joinAll(type, wave, futures, nanosByKey);
+        }
+        return new RefreshResult(waves, nanosByKey);
+    }
+
+    /**
+     * Computes the waves in which the singletons of the given type can be processed: each singleton is in a later
+     * wave than all singletons of the type it (directly or indirectly) depends on. A singleton registered under
+     * multiple types is only processed once.
+     *
+     * @param type the type of the singletons to process
+     * @return the waves of singleton keys (the keys they are registered with in the injector)
+     */
+    public List<List<BindingKey>> computeWaves(Class<?> type) {
+        return SingletonWaves.compute(injector, type, node -> true);
+    }
+
+    private <T> long runCallback(Class<T> type, BindingKey singletonKey, Consumer<? super T> callback) {
+        T singleton = type.cast(injector.getIfAvailable(singletonKey));
+        if (singleton == null) {
+            return 0; // reclaimable singleton that has been garbage collected
+        }
+        long start = System.nanoTime();
+        callback.accept(singleton);
+        return System.nanoTime() - start;
+    }
+
+    private static void joinAll(Class<?> type, List<BindingKey> wave, List<CompletableFuture<Long>> futures,
+                                Map<BindingKey, Long> nanosByKey) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw new InjectorException("Failed to refresh singletons of type '" + type + "'", e.getCause());
+        }
+        for (int i = 0; i < wave.size(); ++i) {
+            nanosByKey.put(wave.get(i), futures.get(i).join());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ch.jalu.injector.lifecycle;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.graph.SingletonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Groups the singletons of an injector into waves based on its dependency graph.
+ */
+final class SingletonWaves {
+
+    private SingletonWaves() {
+    }
+
+    /**
+     * Computes the waves of the matching singletons: each singleton is in a later wave than all matching singletons
+     * it (directly or indirectly) depends on. A singleton registered under multiple types is only included once.
+     *
+     * @param injector the injector to process
+     * @param type the type of the singletons to include
+     * @param nodeFilter additional filter the nodes of the singletons to include must match
+     * @return the waves of singleton keys (the keys they are registered with in the injector)
+     */
+    static List<List<BindingKey>> compute(Injector injector, Class<?> type, Predicate<SingletonNode> nodeFilter) {
+        Map<BindingKey, Set<BindingKey>> matchingDependenciesByKey = new HashMap<>();
+        Map<BindingKey, Integer> waveByKey = new HashMap<>();
+        Map<Object, Boolean> includedInstances = new IdentityHashMap<>();
+        List<List<BindingKey>> waves = new ArrayList<>();
+
+        // Nodes are in dependency order, so dependencies are always processed before the nodes depending on them
+        for (SingletonNode node : injector.getDependencyGraph().getNodes()) {
+            Set<BindingKey> matchingDependencies = new LinkedHashSet<>();
+            for (BindingKey dependency : node.getDependencyKeys()) {
+                if (waveByKey.containsKey(dependency)) {
+                    matchingDependencies.add(dependency);
+                } else {
+                    matchingDependencies.addAll(
+                        matchingDependenciesByKey.getOrDefault(dependency, Collections.emptySet()));
+                }
+            }
+
+            Object instance = injector.getIfAvailable(node.getKey());
+            if (type.isInstance(instance) && nodeFilter.test(node)
+                && includedInstances.put(instance, Boolean.TRUE) == null) {
+                int wave = 0;
+                for (BindingKey dependency : matchingDependencies) {
+                    wave = Math.max(wave, waveByKey.get(dependency) + 1);
+                }
+                waveByKey.put(node.getKey(), wave);
+                if (waves.size() == wave) {
+                    waves.add(new ArrayList<>());
+                }
+                waves.get(wave).add(node.getKey());
+            } else {
+                matchingDependenciesByKey.put(node.getKey(), matchingDependencies);
+            }
+        }
+        return waves;
+    }
+}
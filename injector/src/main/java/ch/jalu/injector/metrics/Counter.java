@@ -0,0 +1,16 @@
+package ch.jalu.injector.metrics;
+
+/**
+ * Counter of events, such as the resolutions of a type.
+ *
+ * @see MetricsRegistry
+ */
+@FunctionalInterface
+public interface Counter {
+
+    /**
+     * Increments the counter by one.
+     */
+    void increment();
+
+}
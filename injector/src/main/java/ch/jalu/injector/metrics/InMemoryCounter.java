@@ -0,0 +1,32 @@
+package ch.jalu.injector.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of {@link InMemoryMetricsRegistry}, backed by a {@link LongAdder} so that concurrent increments
+ * do not contend.
+ */
+public final class InMemoryCounter implements Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    InMemoryCounter() {
+    }
+
+    @Override
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * @return the number of times the counter was incremented
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryCounter[count=" + getCount() + "]";
+    }
+}
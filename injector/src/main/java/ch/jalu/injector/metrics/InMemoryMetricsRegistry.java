@@ -0,0 +1,48 @@
+package ch.jalu.injector.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics registry which keeps all meters in memory, e.g. for local use or for tests.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final Map<String, Map<Class<?>, InMemoryCounter>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Map<Class<?>, InMemoryTimer>> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public InMemoryCounter counter(String name, Class<?> type) {
+        return counters.computeIfAbsent(name, n -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, t -> new InMemoryCounter());
+    }
+
+    @Override
+    public InMemoryTimer timer(String name, Class<?> type) {
+        return timers.computeIfAbsent(name, n -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, t -> new InMemoryTimer());
+    }
+
+    /**
+     * Returns the counters with the given name by class.
+     *
+     * @param name the name of the metric
+     * @return the counters (unmodifiable, never null)
+     */
+    public Map<Class<?>, InMemoryCounter> getCounters(String name) {
+        Map<Class<?>, InMemoryCounter> countersByType = counters.get(name);
+        return countersByType == null ? Collections.emptyMap() : Collections.unmodifiableMap(countersByType);
+    }
+
+    /**
+     * Returns the timers with the given name by class.
+     *
+     * @param name the name of the metric
+     * @return the timers (unmodifiable, never null)
+     */
+    public Map<Class<?>, InMemoryTimer> getTimers(String name) {
+        Map<Class<?>, InMemoryTimer> timersByType = timers.get(name);
+        return timersByType == null ? Collections.emptyMap() : Collections.unmodifiableMap(timersByType);
+    }
+}
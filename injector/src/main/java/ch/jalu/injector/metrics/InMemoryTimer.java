@@ -0,0 +1,108 @@
+package ch.jalu.injector.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer of {@link InMemoryMetricsRegistry}. Durations are counted in a histogram with power-of-two buckets:
+ * bucket {@code i} counts the durations {@code d} with {@code 2^(i-1) <= d < 2^i} nanoseconds (bucket 0
+ * counts durations of zero). All values are kept in striped adders, so recording a duration does not
+ * allocate any objects and does not contend with other threads.
+ */
+public final class InMemoryTimer implements Timer {
+
+    /** Number of buckets of the histogram. */
+    public static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    InMemoryTimer() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(duration)].increment();
+    }
+
+    /**
+     * @return the number of recorded events
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of all recorded durations, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return the longest recorded duration, in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return the mean duration in nanoseconds, 0 if no events were recorded
+     */
+    public double getMeanNanos() {
+        long currentCount = getCount();
+        return currentCount == 0 ? 0 : (double) getTotalNanos() / currentCount;
+    }
+
+    /**
+     * Returns the counts of the histogram's buckets.
+     *
+     * @return number of recorded durations per bucket
+     */
+    public long[] getHistogram() {
+        long[] histogram = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            histogram[i] = buckets[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations, based on the histogram.
+     * The value is exact to a factor of two.
+     *
+     * @param percentile the percentile to compute, between 0 and 1 (e.g. 0.99)
+     * @return upper bound of the duration in nanoseconds, 0 if no events were recorded
+     */
+    public long getPercentileUpperBound(double percentile) {
+        long[] histogram = getHistogram();
+        long total = 0;
+        for (long bucketCount : histogram) {
+            total += bucketCount;
+        }
+        long threshold = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += histogram[i];
+            if (seen >= threshold && seen > 0) {
+                return i == 0 ? 0 : Math.min(getMaxNanos(), (1L << i) - 1);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryTimer[count=" + getCount() + ", totalNanos=" + getTotalNanos()
+            + ", maxNanos=" + getMaxNanos() + "]";
+    }
+}
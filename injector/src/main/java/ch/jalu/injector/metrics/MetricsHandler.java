@@ -0,0 +1,83 @@
+package ch.jalu.injector.metrics;
+
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.context.StandardResolutionType;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.utils.InjectorUtils;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Handler recording metrics about the injector's usage to a {@link MetricsRegistry}. The following meters
+ * are recorded for each class:
+ * <ul>
+ *   <li>{@link #RESOLUTIONS}: counter of the resolutions of the class by the handlers. Singletons which already
+ *       exist are returned without any resolution and are not counted. The first availability check of a class,
+ *       e.g. by {@link ch.jalu.injector.Injector#createIfHasDependencies}, resolves it and is counted as well.</li>
+ *   <li>{@link #SINGLETON_CREATION}: timer of the creation of singletons, including their post construct
+ *       methods.</li>
+ *   <li>{@link #INSTANCE_CREATION}: timer of the creation of all other objects, e.g. by
+ *       {@link ch.jalu.injector.Injector#newInstance}, {@link ch.jalu.injector.factory.Factory#newInstance} or
+ *       an injected {@link javax.inject.Provider}. Its count per time unit is the rate of such calls.</li>
+ * </ul>
+ * Each meter is requested from the registry on its first use and kept, so recording does not allocate any objects.
+ * <p>
+ * The handler should be added before all other handlers, as the handlers following the one that resolves a
+ * request are not called.
+ */
+public class MetricsHandler implements Handler {
+
+    /** Name of the counter of resolutions. */
+    public static final String RESOLUTIONS = "injector.resolutions";
+    /** Name of the timer of singleton creations. */
+    public static final String SINGLETON_CREATION = "injector.singleton.creation";
+    /** Name of the timer of the creation of non-singleton objects. */
+    public static final String INSTANCE_CREATION = "injector.instance.creation";
+
+    private final Function<Class<?>, Counter> resolutionCounterCreator;
+    private final Function<Class<?>, Timer> singletonTimerCreator;
+    private final Function<Class<?>, Timer> instanceTimerCreator;
+    private final Map<Class<?>, Counter> resolutionCounters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Timer> singletonTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Timer> instanceTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param registry the registry to record metrics to
+     */
+    public MetricsHandler(MetricsRegistry registry) {
+        InjectorUtils.checkNotNull(registry, "Registry may not be null");
+        // Keep the functions so that no lambda has to be created when recording
+        this.resolutionCounterCreator = type -> registry.counter(RESOLUTIONS, type);
+        this.singletonTimerCreator = type -> registry.timer(SINGLETON_CREATION, type);
+        this.instanceTimerCreator = type -> registry.timer(INSTANCE_CREATION, type);
+    }
+
+    @Nullable
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        getMeter(resolutionCounters, context.getIdentifier().getTypeAsClass(), resolutionCounterCreator).increment();
+        return null;
+    }
+
+    @Override
+    public void onInstantiation(Object object, ResolutionContext context, long nanos) {
+        Class<?> type = context.getOriginalIdentifier().getTypeAsClass();
+        if (context.getIdentifier().getResolutionType() == StandardResolutionType.SINGLETON) {
+            getMeter(singletonTimers, type, singletonTimerCreator).record(nanos);
+        } else {
+            getMeter(instanceTimers, type, instanceTimerCreator).record(nanos);
+        }
+    }
+
+    private static <M> M getMeter(Map<Class<?>, M> meters, Class<?> type, Function<Class<?>, M> meterCreator) {
+        // Check with get first as computeIfAbsent may lock even if the entry exists
+        M meter = meters.get(type);
+        return meter == null ? meters.computeIfAbsent(type, meterCreator) : meter;
+    }
+}
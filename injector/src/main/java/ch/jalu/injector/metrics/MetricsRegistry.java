@@ -0,0 +1,43 @@
+package ch.jalu.injector.metrics;
+
+/**
+ * Registry providing the meters which the {@link MetricsHandler} records to. Meters are identified by a name
+ * and the class they are about. The interface is kept minimal so that it can be backed by a metrics library,
+ * e.g. Micrometer:
+ * <pre>{@code
+ *   MetricsRegistry registry = new MetricsRegistry() {
+ *       public Counter counter(String name, Class<?> type) {
+ *           return meterRegistry.counter(name, "type", type.getName())::increment;
+ *       }
+ *
+ *       public Timer timer(String name, Class<?> type) {
+ *           io.micrometer.core.instrument.Timer timer = meterRegistry.timer(name, "type", type.getName());
+ *           return nanos -> timer.record(nanos, TimeUnit.NANOSECONDS);
+ *       }
+ *   };
+ * }</pre>
+ * Meters are requested once per name and class and are then kept by the handler.
+ *
+ * @see InMemoryMetricsRegistry
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Returns the counter with the given name for the given class.
+     *
+     * @param name the name of the metric
+     * @param type the class the metric is about
+     * @return the counter
+     */
+    Counter counter(String name, Class<?> type);
+
+    /**
+     * Returns the timer with the given name for the given class.
+     *
+     * @param name the name of the metric
+     * @param type the class the metric is about
+     * @return the timer
+     */
+    Timer timer(String name, Class<?> type);
+
+}
@@ -0,0 +1,18 @@
+package ch.jalu.injector.metrics;
+
+/**
+ * Records the durations of events, such as the instantiations of a type.
+ *
+ * @see MetricsRegistry
+ */
+@FunctionalInterface
+public interface Timer {
+
+    /**
+     * Records an event with the given duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void record(long nanos);
+
+}
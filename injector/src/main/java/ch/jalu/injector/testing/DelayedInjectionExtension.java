@@ -0,0 +1,80 @@
+package ch.jalu.injector.testing;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.testing.extension.DelayedInjectionPlan;
+import ch.jalu.injector.testing.runner.AnnotationResolver;
+import ch.jalu.injector.testing.runner.MockDependencyHandler;
+import ch.jalu.injector.testing.runner.SharedInjectionHandlers;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * JUnit 5 extension which adds support for {@link InjectDelayed} and {@link BeforeInjecting}, equivalent to
+ * the {@link DelayedInjectionRunner} of JUnit 4. The extension also initializes fields with Mockito's
+ * {@link org.mockito.Mock} and {@link org.mockito.Spy}.
+ * <p>
+ * Before each test, Mockito's annotations are initialized, then {@link BeforeInjecting} methods are run and
+ * finally the {@link InjectDelayed} fields are set, before JUnit's {@link org.junit.jupiter.api.BeforeEach}
+ * methods are run. As with the runner, all dependencies of classes annotated with {@link InjectDelayed} must
+ * be declared as {@link org.mockito.Mock} fields.
+ * <p>
+ * The {@link DelayedInjectionPlan injection plan} of a test class is computed once in {@code beforeAll} and
+ * kept in the extension context's store. Each test gets its own injector and the extension has no state, so
+ * tests may be executed in parallel. The {@link InjectDelayed} fields are reset after each test, so that test
+ * classes with {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS a per-class lifecycle} get new
+ * objects for each test as well.
+ */
+public class DelayedInjectionExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(DelayedInjectionExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        getPlan(context);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Object testInstance = context.getRequiredTestInstance();
+        MockitoAnnotations.initMocks(testInstance);
+        DelayedInjectionPlan plan = getPlan(context);
+        plan.apply(testInstance, target -> createInjector(plan, target));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        getPlan(context).reset(context.getRequiredTestInstance());
+        Mockito.validateMockitoUsage();
+    }
+
+    /**
+     * Creates the injector used to set the {@link InjectDelayed} fields of the given test instance.
+     * Override this method to provide your own injector, e.g. if your application uses custom instantiation
+     * methods or annotation behavior.
+     *
+     * @param plan the injection plan of the test class
+     * @param target the test instance
+     * @return the injector to use
+     */
+    protected Injector createInjector(DelayedInjectionPlan plan, Object target) {
+        return new InjectorBuilder()
+            .addHandlers(
+                new AnnotationResolver(plan.getFieldIndex(), target),
+                new MockDependencyHandler(plan.getFieldIndex(), target),
+                SharedInjectionHandlers.getPostConstructInvoker())
+            .addHandlers(SharedInjectionHandlers.createInstantiationProviders())
+            .create();
+    }
+
+    private static DelayedInjectionPlan getPlan(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(testClass, DelayedInjectionPlan::new,
+            DelayedInjectionPlan.class);
+    }
+}
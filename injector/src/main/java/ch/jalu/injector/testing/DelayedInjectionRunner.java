@@ -32,6 +32,10 @@ import java.util.List;
  * Important: It is required to declare all dependencies of classes annotated with
  * {@link InjectDelayed} as {@link org.mockito.Mock} fields. If a dependency is missing, an exception
  * will be thrown.
+ * <p>
+ * The runner can be used with parallel test execution (e.g. JUnit's {@link org.junit.experimental.ParallelComputer}
+ * or Surefire's {@code parallel} setting): each test gets its own injector and the runner keeps no state
+ * between tests.
  */
 public class DelayedInjectionRunner extends BlockJUnit4ClassRunner {
 
@@ -57,8 +61,13 @@ public class DelayedInjectionRunner extends BlockJUnit4ClassRunner {
     @Override
     public void run(final RunNotifier notifier) {
         // add listener that validates framework usage at the end of each test
-        notifier.addListener(new DelayedInjectionRunnerValidator(notifier, getTestClass()));
-        super.run(notifier);
+        DelayedInjectionRunnerValidator validator = new DelayedInjectionRunnerValidator(notifier, getTestClass());
+        notifier.addListener(validator);
+        try {
+            super.run(notifier);
+        } finally {
+            notifier.removeListener(validator);
+        }
     }
 
     /* Adds a Statement to the chain if @BeforeInjecting methods are present. */
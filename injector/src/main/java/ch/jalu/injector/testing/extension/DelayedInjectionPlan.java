@@ -0,0 +1,158 @@
+package ch.jalu.injector.testing.extension;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.testing.BeforeInjecting;
+import ch.jalu.injector.testing.InjectDelayed;
+import ch.jalu.injector.testing.runner.TestClassFieldIndex;
+import ch.jalu.injector.utils.ReflectionUtils;
+import org.mockito.InjectMocks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Injection plan of a test class: the {@link BeforeInjecting} methods to run and the {@link InjectDelayed}
+ * fields to set. The plan is created once per test class and applied to each test instance.
+ * <p>
+ * When the plan is created, the {@link InjectDelayed} fields are validated and accessors for them are created,
+ * so that applying the plan to a test instance only consists of invoking the methods and creating the objects.
+ */
+public class DelayedInjectionPlan {
+
+    private final TestClassFieldIndex fieldIndex;
+    private final List<Method> beforeInjectingMethods;
+    private final List<DelayedField> delayedFields;
+
+    /**
+     * Constructor.
+     *
+     * @param testClass the test class to create the plan for
+     */
+    public DelayedInjectionPlan(Class<?> testClass) {
+        this.fieldIndex = TestClassFieldIndex.of(testClass);
+        if (!fieldIndex.getFields(InjectMocks.class).isEmpty()) {
+            throw new InjectorException("Do not use @InjectMocks together with @InjectDelayed in '"
+                + testClass + "': use @InjectDelayed only");
+        }
+        this.beforeInjectingMethods = collectBeforeInjectingMethods(testClass);
+
+        List<DelayedField> delayedFields = new ArrayList<>();
+        for (Field field : fieldIndex.getFields(InjectDelayed.class)) {
+            if (Modifier.isFinal(field.getModifiers())) {
+                throw new InjectorException("Field with @InjectDelayed may not be final. Field '"
+                    + field.getName() + "' in '" + testClass + "' is final");
+            }
+            delayedFields.add(new DelayedField(field));
+        }
+        this.delayedFields = Collections.unmodifiableList(delayedFields);
+    }
+
+    /**
+     * Applies the plan to the given test instance: runs all {@link BeforeInjecting} methods and sets all
+     * {@link InjectDelayed} fields with the injector created by the given function.
+     *
+     * @param target the test instance
+     * @param injectorFactory function creating the injector for the test instance
+     */
+    public void apply(Object target, Function<Object, Injector> injectorFactory) {
+        for (Method method : beforeInjectingMethods) {
+            ReflectionUtils.invokeMethod(method, target);
+        }
+        if (delayedFields.isEmpty()) {
+            return;
+        }
+
+        Injector injector = injectorFactory.apply(target);
+        for (DelayedField delayedField : delayedFields) {
+            if (delayedField.getValue(target) != null) {
+                throw new IllegalStateException("Field with @InjectDelayed must be null on startup. "
+                    + "Field '" + delayedField.field.getName() + "' is not null");
+            }
+            delayedField.setValue(target, injector.getSingleton(delayedField.field.getType()));
+        }
+    }
+
+    /**
+     * Resets all {@link InjectDelayed} fields of the given test instance to null, so that the plan can be applied
+     * to the same instance again, as is the case for test classes with a per-class lifecycle.
+     *
+     * @param target the test instance
+     */
+    public void reset(Object target) {
+        for (DelayedField delayedField : delayedFields) {
+            delayedField.setValue(target, null);
+        }
+    }
+
+    /**
+     * @return the field index of the test class
+     */
+    public TestClassFieldIndex getFieldIndex() {
+        return fieldIndex;
+    }
+
+    private static List<Method> collectBeforeInjectingMethods(Class<?> testClass) {
+        List<Method> methods = new ArrayList<>();
+        Class<?> currentClass = testClass;
+        while (currentClass != null && currentClass != Object.class) {
+            Method[] declaredMethods = currentClass.getDeclaredMethods();
+            Arrays.sort(declaredMethods, Comparator.comparing(Method::getName));
+            for (Method method : declaredMethods) {
+                if (method.isAnnotationPresent(BeforeInjecting.class)) {
+                    method.setAccessible(true);
+                    methods.add(method);
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * Field annotated with {@link InjectDelayed}, with method handles to get and set its value.
+     */
+    private static final class DelayedField {
+
+        private final Field field;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        DelayedField(Field field) {
+            this.field = field;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                this.getter = lookup.unreflectGetter(field);
+                this.setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                throw new InjectorReflectionException("Could not create accessors for field '" + field + "'", e);
+            }
+        }
+
+        Object getValue(Object target) {
+            try {
+                return getter.invoke(target);
+            } catch (Throwable e) {
+                throw new InjectorException("Could not get value of field '" + field.getName() + "'", e);
+            }
+        }
+
+        void setValue(Object target, Object value) {
+            try {
+                setter.invoke(target, value);
+            } catch (Throwable e) {
+                throw new InjectorException("Could not set field '" + field.getName() + "'", e);
+            }
+        }
+    }
+}
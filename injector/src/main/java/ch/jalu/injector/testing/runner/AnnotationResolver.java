@@ -6,7 +6,6 @@ import ch.jalu.injector.handlers.instantiation.Resolution;
 import ch.jalu.injector.handlers.instantiation.SimpleResolution;
 import ch.jalu.injector.testing.InjectDelayed;
 import ch.jalu.injector.utils.ReflectionUtils;
-import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.TestClass;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -15,19 +14,20 @@ import org.mockito.Spy;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 /**
  * Resolves dependency by annotation: if a field is present in the test class with the same annotation as
- * on the dependency, the field will be used if the type matches.
+ * on the dependency, the field will be used if the type matches. Fields are looked up with the test class'
+ * {@link TestClassFieldIndex}.
  */
 public class AnnotationResolver implements Handler {
 
-    private final TestClass testClass;
+    private final TestClassFieldIndex fieldIndex;
     private final Object target;
     private final Set<Class<? extends Annotation>> ignoredAnnotations;
 
@@ -37,7 +37,17 @@ public class AnnotationResolver implements Handler {
 
     @SafeVarargs
     public AnnotationResolver(TestClass testClass, Object target, Class<? extends Annotation>... ignoredAnnotations) {
-        this.testClass = testClass;
+        this(TestClassFieldIndex.of(testClass.getJavaClass()), target, ignoredAnnotations);
+    }
+
+    public AnnotationResolver(TestClassFieldIndex fieldIndex, Object target) {
+        this(fieldIndex, target, Inject.class, InjectMocks.class, Mock.class, Spy.class, InjectDelayed.class);
+    }
+
+    @SafeVarargs
+    public AnnotationResolver(TestClassFieldIndex fieldIndex, Object target,
+                              Class<? extends Annotation>... ignoredAnnotations) {
+        this.fieldIndex = fieldIndex;
         this.target = target;
         this.ignoredAnnotations = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(ignoredAnnotations)));
     }
@@ -57,11 +67,9 @@ public class AnnotationResolver implements Handler {
     @Nullable
     private Object resolveByAnnotation(Class<? extends Annotation> annotation, Class<?> type) {
         if (!ignoredAnnotations.contains(annotation)) {
-            List<FrameworkField> fields = testClass.getAnnotatedFields(annotation);
-            for (FrameworkField field : fields) {
-                if (type.isAssignableFrom(field.getType())) {
-                    return ReflectionUtils.getFieldValue(field.getField(), target);
-                }
+            Field field = fieldIndex.getAssignableField(annotation, type);
+            if (field != null) {
+                return ReflectionUtils.getFieldValue(field, target);
             }
         }
         return null;
@@ -10,22 +10,32 @@ import org.mockito.Mockito;
 
 /**
  * Validates that {@link ch.jalu.injector.testing.DelayedInjectionRunner} is used as intended.
+ * <p>
+ * The notifier may be shared by multiple test classes which are run in parallel, so the validator only
+ * processes the tests of the test class it was created for.
  */
+@RunListener.ThreadSafe
 public class DelayedInjectionRunnerValidator extends RunListener {
 
     private final RunNotifier notifier;
-    private final TestClass testClass;
+    private final String testClassName;
+    private final boolean hasInjectMocksFields;
 
     public DelayedInjectionRunnerValidator(RunNotifier notifier, TestClass testClass) {
         this.notifier = notifier;
-        this.testClass = testClass;
+        this.testClassName = testClass.getName();
+        this.hasInjectMocksFields = !TestClassFieldIndex.of(testClass.getJavaClass())
+            .getFields(InjectMocks.class).isEmpty();
     }
 
     @Override
     public void testFinished(Description description) throws Exception {
+        if (!testClassName.equals(description.getClassName())) {
+            return;
+        }
         try {
             Mockito.validateMockitoUsage();
-            if (!testClass.getAnnotatedFields(InjectMocks.class).isEmpty()) {
+            if (hasInjectMocksFields) {
                 throw new IllegalStateException("Do not use @InjectMocks with the DelayedInjectionRunner:"
                     + " use @InjectDelayed or change runner");
             }
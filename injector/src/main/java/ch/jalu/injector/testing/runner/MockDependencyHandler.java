@@ -6,14 +6,10 @@ import ch.jalu.injector.exceptions.InjectorException;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.instantiation.Resolution;
 import ch.jalu.injector.handlers.instantiation.SimpleResolution;
-import ch.jalu.injector.testing.InjectDelayed;
 import ch.jalu.injector.utils.ReflectionUtils;
-import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.TestClass;
-import org.mockito.Mock;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.lang.reflect.Field;
 
 /**
  * Resolves a dependency by retrieving the value from a corresponding @Mock field.
@@ -21,13 +17,16 @@ import java.util.Set;
  */
 public class MockDependencyHandler implements Handler {
 
-    private final TestClass testClass;
+    private final TestClassFieldIndex fieldIndex;
     private final Object target;
     private boolean areMocksRegistered;
-    private Set<Class<?>> fieldsToInject;
 
     public MockDependencyHandler(TestClass testClass, Object target) {
-        this.testClass = testClass;
+        this(TestClassFieldIndex.of(testClass.getJavaClass()), target);
+    }
+
+    public MockDependencyHandler(TestClassFieldIndex fieldIndex, Object target) {
+        this.fieldIndex = fieldIndex;
         this.target = target;
     }
 
@@ -44,7 +43,7 @@ public class MockDependencyHandler implements Handler {
         if (object != null) {
             return new SimpleResolution<>(object);
         }
-        if (fieldsToInject.contains(type)) {
+        if (fieldIndex.getInjectDelayedTypes().contains(type)) {
             // The required type is present as @InjectDelayed. Return null to make the injector instantiate the type
             return null;
         }
@@ -61,15 +60,10 @@ public class MockDependencyHandler implements Handler {
      * @param injector the injector to use
      */
     private void registerAllMocks(Injector injector) {
-        for (FrameworkField frameworkField : testClass.getAnnotatedFields(Mock.class)) {
+        for (Field field : fieldIndex.getMockFields()) {
             // Unchecked so we don't need to cast the field's value...
-            Class clazz = frameworkField.getType();
-            injector.register(clazz, ReflectionUtils.getFieldValue(frameworkField.getField(), target));
-        }
-
-        fieldsToInject = new HashSet<>();
-        for (FrameworkField frameworkField : testClass.getAnnotatedFields(InjectDelayed.class)) {
-            fieldsToInject.add(frameworkField.getType());
+            Class clazz = field.getType();
+            injector.register(clazz, ReflectionUtils.getFieldValue(field, target));
         }
     }
 
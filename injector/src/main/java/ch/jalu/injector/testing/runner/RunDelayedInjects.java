@@ -3,7 +3,6 @@ package ch.jalu.injector.testing.runner;
 import ch.jalu.injector.Injector;
 import ch.jalu.injector.InjectorBuilder;
 import ch.jalu.injector.handlers.Handler;
-import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
 import ch.jalu.injector.utils.ReflectionUtils;
 import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.Statement;
@@ -15,13 +14,17 @@ import java.util.List;
 /**
  * Statement for initializing {@link ch.jalu.injector.testing.InjectDelayed} fields. These fields are
  * constructed after {@link ch.jalu.injector.testing.BeforeInjecting} and before JUnit's &#064;Before.
+ * <p>
+ * A new injector is created for each test, using the {@link SharedInjectionHandlers} shared by all tests of
+ * the JVM. The shared handlers are thread-safe and this statement has no mutable state, so tests may be run
+ * in parallel.
  */
 public class RunDelayedInjects extends Statement {
 
     private final Statement next;
-    private TestClass testClass;
-    private Object target;
-    private List<FrameworkField> fields;
+    private final TestClass testClass;
+    private final Object target;
+    private final List<FrameworkField> fields;
 
     public RunDelayedInjects(Statement next, TestClass testClass, Object target, List<FrameworkField> fields) {
         this.next = next;
@@ -42,10 +45,6 @@ public class RunDelayedInjects extends Statement {
             Object object = injector.getSingleton(field.getType());
             ReflectionUtils.setField(field, target, object);
         }
-
-        this.testClass = null;
-        this.target = null;
-        this.fields = null;
         next.evaluate();
     }
 
@@ -56,13 +55,22 @@ public class RunDelayedInjects extends Statement {
      * @return the injector used to set {@link ch.jalu.injector.testing.InjectDelayed} fields
      */
     protected Injector getInjector() {
-        List<Handler> instantiationProviders = InjectorBuilder.createInstantiationProviders("");
         return new InjectorBuilder()
             .addHandlers(
                 new AnnotationResolver(testClass, target),
                 new MockDependencyHandler(testClass, target),
-                new PostConstructMethodInvoker())
-            .addHandlers(instantiationProviders)
+                SharedInjectionHandlers.getPostConstructInvoker())
+            .addHandlers(createInstantiationProviders())
             .create();
     }
+
+    /**
+     * Creates the instantiation providers to add to the injector. By default, the providers use
+     * {@link SharedInjectionHandlers}.
+     *
+     * @return the instantiation providers
+     */
+    protected List<Handler> createInstantiationProviders() {
+        return SharedInjectionHandlers.createInstantiationProviders();
+    }
 }
@@ -0,0 +1,56 @@
+package ch.jalu.injector.testing.runner;
+
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
+
+import java.util.List;
+
+/**
+ * Handlers shared by the injectors of all tests in the JVM. A new injector is created for each test so that
+ * the mocks of one test are never used in another, but the handlers which only depend on the classes to
+ * instantiate are shared: the resolution of a class (its constructor and fields to inject) and its post
+ * construct methods are only looked up once. The handlers are thread-safe.
+ */
+public final class SharedInjectionHandlers {
+
+    private static final DefaultInjectionProvider INJECTION_PROVIDER = new DefaultInjectionProvider("") {
+        @Override
+        protected boolean shouldCacheResolution(Class<?> clazz, Resolution<?> resolution) {
+            return true;
+        }
+    };
+    private static final PostConstructMethodInvoker POST_CONSTRUCT_INVOKER = new PostConstructMethodInvoker();
+
+    private SharedInjectionHandlers() {
+    }
+
+    /**
+     * @return the shared default injection provider, which keeps the resolution of every class it has processed
+     */
+    public static DefaultInjectionProvider getInjectionProvider() {
+        return INJECTION_PROVIDER;
+    }
+
+    /**
+     * @return the shared post construct method invoker
+     */
+    public static PostConstructMethodInvoker getPostConstructInvoker() {
+        return POST_CONSTRUCT_INVOKER;
+    }
+
+    /**
+     * Creates the instantiation providers to add to a test's injector. The default injection provider is
+     * replaced with the shared instance.
+     *
+     * @return the instantiation providers
+     */
+    public static List<Handler> createInstantiationProviders() {
+        List<Handler> instantiationProviders = InjectorBuilder.createInstantiationProviders("");
+        instantiationProviders.replaceAll(
+            handler -> handler instanceof DefaultInjectionProvider ? INJECTION_PROVIDER : handler);
+        return instantiationProviders;
+    }
+}
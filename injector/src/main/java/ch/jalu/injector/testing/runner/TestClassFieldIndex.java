@@ -0,0 +1,135 @@
+package ch.jalu.injector.testing.runner;
+
+import ch.jalu.injector.testing.InjectDelayed;
+import org.mockito.Mock;
+
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the annotated fields of a test class. The index is built once per test class and is shared
+ * by all tests of the class, so that the handlers of the test runner can look up fields by annotation
+ * and type instead of scanning all fields of the test class for each dependency.
+ * <p>
+ * All indexed fields are made accessible when the index is built.
+ */
+public final class TestClassFieldIndex {
+
+    private static final Map<Class<?>, TestClassFieldIndex> INDEXES_BY_CLASS = new ConcurrentHashMap<>();
+
+    private final Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotation;
+    private final Map<Class<? extends Annotation>, Map<Class<?>, Optional<Field>>> fieldsByAnnotationAndType =
+        new ConcurrentHashMap<>();
+    private final List<Field> mockFields;
+    private final Set<Class<?>> injectDelayedTypes;
+
+    private TestClassFieldIndex(Class<?> testClass) {
+        Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotation = new HashMap<>();
+        for (Field field : collectFields(testClass)) {
+            for (Annotation annotation : field.getDeclaredAnnotations()) {
+                fieldsByAnnotation.computeIfAbsent(annotation.annotationType(), a -> new ArrayList<>()).add(field);
+            }
+        }
+        fieldsByAnnotation.replaceAll((annotation, fields) -> Collections.unmodifiableList(fields));
+        this.fieldsByAnnotation = fieldsByAnnotation;
+        this.mockFields = getFields(Mock.class);
+
+        Set<Class<?>> injectDelayedTypes = new HashSet<>();
+        for (Field field : getFields(InjectDelayed.class)) {
+            injectDelayedTypes.add(field.getType());
+        }
+        this.injectDelayedTypes = Collections.unmodifiableSet(injectDelayedTypes);
+    }
+
+    /**
+     * Returns the index for the given test class, creating it if it does not exist yet.
+     *
+     * @param testClass the test class
+     * @return index of the test class' fields
+     */
+    public static TestClassFieldIndex of(Class<?> testClass) {
+        return INDEXES_BY_CLASS.computeIfAbsent(testClass, TestClassFieldIndex::new);
+    }
+
+    /**
+     * Returns all fields with the given annotation.
+     *
+     * @param annotation the annotation to look up
+     * @return all fields with the annotation (never null)
+     */
+    public List<Field> getFields(Class<? extends Annotation> annotation) {
+        return fieldsByAnnotation.getOrDefault(annotation, Collections.emptyList());
+    }
+
+    /**
+     * Returns the first field with the given annotation whose type can be assigned to the given type.
+     * The result is cached for each annotation and type.
+     *
+     * @param annotation the annotation the field must have
+     * @param type the type the field's value must be assignable to
+     * @return the matching field, or null if none
+     */
+    @Nullable
+    public Field getAssignableField(Class<? extends Annotation> annotation, Class<?> type) {
+        List<Field> candidates = fieldsByAnnotation.get(annotation);
+        if (candidates == null) {
+            return null;
+        }
+        return fieldsByAnnotationAndType
+            .computeIfAbsent(annotation, a -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, t -> candidates.stream()
+                .filter(field -> t.isAssignableFrom(field.getType()))
+                .findFirst())
+            .orElse(null);
+    }
+
+    /**
+     * @return all fields annotated with {@link Mock}
+     */
+    public List<Field> getMockFields() {
+        return mockFields;
+    }
+
+    /**
+     * @return the types of all fields annotated with {@link InjectDelayed}
+     */
+    public Set<Class<?>> getInjectDelayedTypes() {
+        return injectDelayedTypes;
+    }
+
+    /**
+     * Collects all annotated fields of the given class and its parents. Fields of a class are sorted by name
+     * and come before the fields of its parent, in line with JUnit's {@link org.junit.runners.model.TestClass}.
+     *
+     * @param testClass the class to process
+     * @return the class' fields
+     */
+    private static List<Field> collectFields(Class<?> testClass) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> currentClass = testClass;
+        while (currentClass != null && currentClass != Object.class) {
+            Field[] declaredFields = currentClass.getDeclaredFields();
+            Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+            for (Field field : declaredFields) {
+                if (field.getDeclaredAnnotations().length > 0) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return fields;
+    }
+}
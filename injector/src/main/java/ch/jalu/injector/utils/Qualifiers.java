@@ -0,0 +1,63 @@
+package ch.jalu.injector.utils;
+
+import javax.inject.Named;
+import java.lang.annotation.Annotation;
+
+/**
+ * Creates qualifier annotations, e.g. to register or retrieve qualified objects in the injector.
+ */
+public final class Qualifiers {
+
+    private Qualifiers() {
+    }
+
+    /**
+     * Creates a {@link Named} annotation with the given value. The returned annotation is equal to any
+     * {@code @Named} annotation with the same value declared in code.
+     *
+     * @param value the name
+     * @return named annotation
+     */
+    public static Named named(String value) {
+        InjectorUtils.checkNotNull(value, "Name may not be null");
+        return new NamedImpl(value);
+    }
+
+    /**
+     * Implementation of {@link Named} following the contract of {@link Annotation#equals} and
+     * {@link Annotation#hashCode}.
+     */
+    private static final class NamedImpl implements Named {
+
+        private final String value;
+
+        NamedImpl(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Named.class;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Named && value.equals(((Named) obj).value());
+        }
+
+        @Override
+        public int hashCode() {
+            return (127 * "value".hashCode()) ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "@" + Named.class.getName() + "(value=" + value + ")";
+        }
+    }
+}
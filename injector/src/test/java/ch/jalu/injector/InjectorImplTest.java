@@ -1,8 +1,10 @@
 package ch.jalu.injector;
 
 import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.context.BindingKey;
 import ch.jalu.injector.context.ResolutionContext;
 import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.graph.SingletonNode;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.dependency.providers.Delta;
 import ch.jalu.injector.handlers.dependency.providers.Delta1Provider;
@@ -12,6 +14,7 @@ import ch.jalu.injector.handlers.instantiation.SimpleResolution;
 import ch.jalu.injector.handlers.instantiation.StandardInjectionProvider;
 import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
 import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.AlphaServiceAsyncCreator;
 import ch.jalu.injector.samples.BadFieldInjection;
 import ch.jalu.injector.samples.BetaManager;
 import ch.jalu.injector.samples.CircularClasses;
@@ -20,14 +23,19 @@ import ch.jalu.injector.samples.ClassWithAnnotations;
 import ch.jalu.injector.samples.Duration;
 import ch.jalu.injector.samples.FieldInjectionWithAnnotations;
 import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.GenericClasses;
 import ch.jalu.injector.samples.InstantiationFallbackClasses;
 import ch.jalu.injector.samples.InvalidClass;
+import ch.jalu.injector.samples.PostConstructTestClass;
 import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.samples.QualifiedClasses;
+import ch.jalu.injector.samples.ReclaimableClasses;
 import ch.jalu.injector.samples.Reloadable;
 import ch.jalu.injector.samples.SampleInstantiationImpl;
 import ch.jalu.injector.samples.Size;
 import ch.jalu.injector.samples.StaticFieldInjection;
 import ch.jalu.injector.samples.inheritance.Child;
+import ch.jalu.injector.utils.Qualifiers;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -37,13 +45,24 @@ import org.mockito.Mockito;
 
 import javax.inject.Provider;
 import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
@@ -51,15 +70,18 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -420,6 +442,68 @@ public class InjectorImplTest {
         assertThat(result, not(nullValue()));
     }
 
+    @Test
+    public void shouldCheckAvailabilityOfDependencies() {
+        // given / when
+        boolean hasAlphaService = injector.areDependenciesAvailable(GammaService.class, false);
+        boolean canCreateAlphaService = injector.areDependenciesAvailable(GammaService.class, true);
+
+        // then
+        assertThat(hasAlphaService, equalTo(false));
+        assertThat(canCreateAlphaService, equalTo(true));
+        assertThat(injector.getIfAvailable(AlphaService.class), nullValue());
+    }
+
+    @Test
+    public void shouldCheckAvailabilityOfDependenciesAfterValueIsProvided() {
+        // given
+        injector.register(BetaManager.class, new BetaManager());
+        injector.provide(Duration.class, 13095L);
+        try {
+            injector.areDependenciesAvailable(FieldInjectionWithAnnotations.class, true);
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // expected: no value is provided for @Size
+        }
+
+        // when
+        injector.provide(Size.class, 2809375);
+
+        // then
+        assertThat(injector.areDependenciesAvailable(FieldInjectionWithAnnotations.class, false), equalTo(false));
+        assertThat(injector.areDependenciesAvailable(FieldInjectionWithAnnotations.class, true), equalTo(true));
+        assertThat(injector.getIfAvailable(ClassWithAnnotations.class), nullValue());
+    }
+
+    @Test
+    public void shouldNotInstantiateDependenciesForUnavailableDependency() {
+        // given / when
+        ClassWithAbstractDependency result = injector.createIfHasDependencies(ClassWithAbstractDependency.class);
+
+        // then
+        assertThat(result, nullValue());
+        assertThat(injector.getIfAvailable(AlphaService.class), nullValue());
+    }
+
+    @Test
+    public void shouldThrowForDependencyWithoutResolution() {
+        // given
+        injector.register(AlphaService.class, AlphaService.newInstance(new ProvidedClass("")));
+
+        // when / then
+        exceptionCatcher.expect("Did not find instantiation method for '"
+            + ClassWithAbstractDependency.AbstractDependency.class + "'");
+        injector.createIfHasDependencies(ClassWithAbstractDependency.class);
+    }
+
+    @Test
+    public void shouldThrowForConstructibleDependencyWithoutResolution() {
+        // given / when / then
+        exceptionCatcher.expect("Did not find instantiation method for '"
+            + ClassWithAbstractDependency.AbstractDependency.class + "'");
+        injector.areDependenciesAvailable(ClassWithAbstractDependency.class, true);
+    }
+
     @Test
     public void shouldReturnNullForMissingDependency() {
         // given
@@ -550,6 +634,25 @@ public class InjectorImplTest {
         injector.getSingleton(Child.class);
     }
 
+    @Test
+    public void shouldReturnProviderCreatingNewInstances() {
+        // given
+        injector.provide(Size.class, 3);
+        Provider<PostConstructTestClass> provider = injector.getProvider(PostConstructTestClass.class);
+
+        // when
+        PostConstructTestClass object1 = provider.get();
+        PostConstructTestClass object2 = provider.get();
+
+        // then
+        assertAreAllDifferentInstances(object1, object2);
+        assertThat(object1.wasPostConstructCalled(), equalTo(true));
+        assertThat(object2.wasPostConstructCalled(), equalTo(true));
+        assertAreAllSameInstance(object1.getProvidedClass(), object2.getProvidedClass(),
+            injector.getSingleton(ProvidedClass.class));
+        assertThat(injector.getIfAvailable(PostConstructTestClass.class), nullValue());
+    }
+
     private static void assertAreAllSameInstance(Object... objects) {
         assertThat(Stream.of(objects).map(System::identityHashCode).distinct().count(), equalTo(1L));
     }
@@ -570,4 +673,449 @@ public class InjectorImplTest {
             return new CustomInstantiationExample();
         }
     }
+
+    @Test
+    public void shouldRecreateReclaimedSingleton() throws InterruptedException {
+        // given
+        ReclaimableClasses.WeakCache cache = injector.getSingleton(ReclaimableClasses.WeakCache.class);
+        WeakReference<Object> cacheReference = new WeakReference<>(cache);
+        assertThat(injector.getSingleton(ReclaimableClasses.WeakCache.class), sameInstance(cache));
+        assertThat(injector.retrieveAllOfType(ReclaimableClasses.WeakCache.class), contains(cache));
+
+        // when
+        cache = null;
+        for (int i = 0; i < 20 && cacheReference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(cacheReference.get(), nullValue());
+        assertThat(injector.getIfAvailable(ReclaimableClasses.WeakCache.class), nullValue());
+        ReclaimableClasses.WeakCache newCache = injector.getSingleton(ReclaimableClasses.WeakCache.class);
+        assertThat(injector.getSingleton(ReclaimableClasses.WeakCache.class), sameInstance(newCache));
+    }
+
+    @Test
+    public void shouldNotKeepDependenciesInProvider() throws InterruptedException {
+        // given
+        Provider<ReclaimableClasses.WeakCacheUser> provider =
+            injector.getProvider(ReclaimableClasses.WeakCacheUser.class);
+        provider.get();
+        WeakReference<Object> cacheReference =
+            new WeakReference<>(injector.getIfAvailable(ReclaimableClasses.WeakCache.class));
+
+        // when
+        for (int i = 0; i < 20 && cacheReference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(cacheReference.get(), nullValue());
+        assertThat(provider.get().getDataLength(), equalTo(1024));
+        assertThat(injector.getIfAvailable(ReclaimableClasses.WeakCache.class), not(nullValue()));
+    }
+
+    @Test
+    public void shouldResolveClassOfProviderAgainAfterProviderRegistration() {
+        // given
+        Provider<BetaManager> provider = injector.getProvider(BetaManager.class);
+        BetaManager createdManager = provider.get();
+        BetaManager providedManager = new BetaManager();
+
+        // when
+        injector.registerProvider(BetaManager.class, () -> providedManager);
+
+        // then
+        assertThat(createdManager, not(sameInstance(providedManager)));
+        assertThat(provider.get(), sameInstance(providedManager));
+    }
+
+    @Test
+    public void shouldNotRunInstantiationHandlersForExistingObjectsOfProvider() throws Exception {
+        // given
+        BetaManager providedManager = new BetaManager();
+        Handler handler = mock(Handler.class);
+        given(handler.resolve(any(ResolutionContext.class))).willAnswer(
+            invocation -> new SimpleResolution<>(providedManager));
+        Injector injector = new InjectorBuilder()
+            .addHandlers(handler)
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .create();
+        Provider<BetaManager> provider = injector.getProvider(BetaManager.class);
+
+        // when
+        BetaManager manager1 = provider.get();
+        BetaManager manager2 = provider.get();
+
+        // then
+        assertAreAllSameInstance(manager1, manager2, providedManager);
+        verify(handler, never()).onInstantiation(any(), any(ResolutionContext.class), anyLong());
+    }
+
+    @Test
+    public void shouldKeepDependencyOrderOfRecreatedSingleton() throws InterruptedException {
+        // given
+        injector.getSingleton(ReclaimableClasses.WeakCacheUser.class);
+        WeakReference<Object> cacheReference =
+            new WeakReference<>(injector.getIfAvailable(ReclaimableClasses.WeakCache.class));
+        for (int i = 0; i < 20 && cacheReference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(cacheReference.get(), nullValue());
+
+        // when
+        injector.getSingleton(ReclaimableClasses.WeakCache.class);
+
+        // then
+        List<Class<?>> types = injector.getDependencyGraph().getNodes().stream()
+            .map(SingletonNode::getType)
+            .collect(Collectors.toList());
+        assertThat(types.indexOf(ReclaimableClasses.WeakCache.class),
+            lessThan(types.indexOf(ReclaimableClasses.WeakCacheUser.class)));
+    }
+
+    @Test
+    public void shouldKeepSoftlyReferencedSingleton() {
+        // given / when
+        ReclaimableClasses.SoftCache cache = injector.getSingleton(ReclaimableClasses.SoftCache.class);
+
+        // then
+        assertThat(injector.getIfAvailable(ReclaimableClasses.SoftCache.class), sameInstance(cache));
+        assertThat(((InjectorImpl) injector).objects.containsKey(ReclaimableClasses.SoftCache.class), equalTo(false));
+        assertThat(((InjectorImpl) injector).reclaimableObjects.get(ReclaimableClasses.SoftCache.class),
+            instanceOf(SoftReference.class));
+    }
+
+    @Test
+    public void shouldInjectQualifiedSingletons() {
+        // given
+        QualifiedClasses.NamedStorage primary = new QualifiedClasses.NamedStorage("primary");
+        QualifiedClasses.NamedStorage backup = new QualifiedClasses.NamedStorage("backup");
+        injector.register(QualifiedClasses.Storage.class, Qualifiers.named("primary"), primary);
+        injector.register(QualifiedClasses.Storage.class, Qualifiers.named("backup"), backup);
+
+        // when
+        QualifiedClasses.StorageConsumer consumer = injector.getSingleton(QualifiedClasses.StorageConsumer.class);
+
+        // then
+        assertThat(consumer.getPrimaryStorage(), sameInstance(primary));
+        assertThat(consumer.getBackupStorage(), sameInstance(backup));
+        assertThat(injector.getSingleton(QualifiedClasses.Storage.class, Qualifiers.named("backup")),
+            sameInstance(backup));
+        assertThat(injector.getIfAvailable(QualifiedClasses.Storage.class), nullValue());
+        assertThat(injector.retrieveAllOfType(QualifiedClasses.Storage.class), containsInAnyOrder(primary, backup));
+    }
+
+    @Test
+    public void shouldRunDirectRequestHandlersForKnownQualifiedSingleton() throws Exception {
+        // given
+        Handler handler = mock(Handler.class);
+        Injector injector = new InjectorBuilder()
+            .addHandlers(handler)
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .create();
+        QualifiedClasses.NamedStorage primary = new QualifiedClasses.NamedStorage("primary");
+        injector.register(QualifiedClasses.Storage.class, Qualifiers.named("primary"), primary);
+
+        // when
+        QualifiedClasses.Storage storage = injector.getSingleton(QualifiedClasses.Storage.class,
+            Qualifiers.named("primary"));
+
+        // then
+        assertThat(storage, sameInstance(primary));
+        verify(handler).onDirectRequest(primary);
+    }
+
+    @Test
+    public void shouldThrowForSecondQualifiedRegistration() {
+        // given
+        injector.register(QualifiedClasses.Storage.class, Qualifiers.named("primary"),
+            new QualifiedClasses.NamedStorage("primary"));
+
+        // expect
+        exceptionCatcher.expect("There is already an object present for @javax.inject.Named(value=primary)");
+
+        // when
+        injector.register(QualifiedClasses.Storage.class, Qualifiers.named("primary"),
+            new QualifiedClasses.NamedStorage("other"));
+    }
+
+    @Test
+    public void shouldThrowForRegistrationWithNonQualifierAnnotation() throws NoSuchFieldException {
+        // given
+        Size size = FieldInjectionWithAnnotations.class.getDeclaredField("size").getAnnotation(Size.class);
+
+        // expect
+        exceptionCatcher.expect("is not a qualifier");
+
+        // when
+        injector.register(QualifiedClasses.Storage.class, size, new QualifiedClasses.NamedStorage("primary"));
+    }
+
+    @Test
+    public void shouldUseRegisteredRawTypeSingletonForGenericType() {
+        // given
+        GenericClasses.Cache<?> cache = new GenericClasses.Cache<>();
+        injector.register(GenericClasses.Cache.class, cache);
+
+        // when
+        GenericClasses.CacheConsumer consumer = injector.getSingleton(GenericClasses.CacheConsumer.class);
+
+        // then
+        assertThat(consumer.getAlphaCache(), sameInstance(cache));
+        assertThat(consumer.getGammaCache(), sameInstance(cache));
+        assertThat(injector.getDependencyGraph().getNode(GenericClasses.CacheConsumer.class).getDependencyKeys(),
+            contains(BindingKey.of(GenericClasses.Cache.class), BindingKey.of(GenericClasses.Cache.class)));
+    }
+
+    @Test
+    public void shouldRecordAndDestroyGenericSingletons() {
+        // given
+        GenericClasses.CacheConsumer consumer = injector.getSingleton(GenericClasses.CacheConsumer.class);
+
+        // when
+        List<BindingKey> dependencyKeys =
+            injector.getDependencyGraph().getNode(GenericClasses.CacheConsumer.class).getDependencyKeys();
+        injector.close();
+
+        // then
+        assertThat(dependencyKeys, hasSize(2));
+        List<Object> dependencies = dependencyKeys.stream().map(injector::getIfAvailable).collect(Collectors.toList());
+        assertThat(dependencies, containsInAnyOrder(consumer.getAlphaCache(), consumer.getGammaCache()));
+        for (BindingKey key : dependencyKeys) {
+            assertThat(key.isGeneric(), equalTo(true));
+            assertThat(injector.getDependencyGraph().getNode(key).isInstantiated(), equalTo(true));
+        }
+        assertThat(consumer.getAlphaCache().isDestroyed(), equalTo(true));
+        assertThat(consumer.getGammaCache().isDestroyed(), equalTo(true));
+    }
+
+    @Test
+    public void shouldThrowForUnboundQualifier() {
+        // given / expect
+        exceptionCatcher.expect(
+            "No object is bound to @javax.inject.Named(value=alpha) " + AlphaService.class.getName());
+
+        // when
+        injector.getSingleton(AlphaService.class, Qualifiers.named("alpha"));
+    }
+
+    @Test
+    public void shouldCreateSeparateSingletonsForUnboundQualifiersIfAllowed() {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setAllowUnboundQualifiers(true)
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        AlphaService qualifiedService = injector.getSingleton(AlphaService.class, Qualifiers.named("alpha"));
+        AlphaService otherQualifiedService = injector.getSingleton(AlphaService.class, Qualifiers.named("other"));
+        AlphaService service = injector.getSingleton(AlphaService.class);
+
+        // then
+        assertThat(qualifiedService, not(sameInstance(service)));
+        assertThat(otherQualifiedService, not(sameInstance(service)));
+        assertThat(otherQualifiedService, not(sameInstance(qualifiedService)));
+        assertThat(injector.getSingleton(AlphaService.class, Qualifiers.named("alpha")),
+            sameInstance(qualifiedService));
+        assertThat(injector.getIfAvailable(AlphaService.class), sameInstance(service));
+    }
+
+    @Test
+    public void shouldKeepSingletonsOfGenericTypesSeparate() {
+        // given / when
+        GenericClasses.CacheConsumer consumer = injector.getSingleton(GenericClasses.CacheConsumer.class);
+        GenericClasses.OtherCacheConsumer otherConsumer = injector.getSingleton(GenericClasses.OtherCacheConsumer.class);
+
+        // then
+        assertThat(consumer.getAlphaCache(), not(sameInstance(consumer.getGammaCache())));
+        assertThat(otherConsumer.getAlphaCache(), sameInstance(consumer.getAlphaCache()));
+        assertThat(injector.getIfAvailable(GenericClasses.Cache.class), nullValue());
+        assertThat(injector.getSingleton(GenericClasses.Cache.class),
+            not(anyOf(sameInstance(consumer.getAlphaCache()), sameInstance(consumer.getGammaCache()))));
+    }
+
+    @Test
+    public void shouldSkipStableHandlersWhichDeclinedBefore() throws Exception {
+        // given
+        Handler stableHandler = mock(Handler.class);
+        given(stableHandler.hasStableResolutions()).willReturn(true);
+        Handler unstableHandler = mock(Handler.class);
+        config.getHandlers().add(0, stableHandler);
+        config.getHandlers().add(1, unstableHandler);
+
+        // when
+        injector.newInstance(AlphaService.class);
+        injector.newInstance(AlphaService.class);
+        injector.newInstance(AlphaService.class);
+
+        // then
+        verify(stableHandler, times(1)).resolve(any(ResolutionContext.class));
+        verify(unstableHandler, times(3)).resolve(any(ResolutionContext.class));
+    }
+
+    @Test
+    public void shouldSkipStableHandlersAfterUnstableHandler() throws Exception {
+        // given
+        Handler unstableHandler = mock(Handler.class);
+        Handler stableHandler1 = mock(Handler.class);
+        given(stableHandler1.hasStableResolutions()).willReturn(true);
+        Handler stableHandler2 = mock(Handler.class);
+        given(stableHandler2.hasStableResolutions()).willReturn(true);
+        config.getHandlers().add(0, unstableHandler);
+        config.getHandlers().add(1, stableHandler1);
+        config.getHandlers().add(2, unstableHandler);
+        config.getHandlers().add(3, stableHandler2);
+
+        // when
+        injector.newInstance(AlphaService.class);
+        injector.newInstance(AlphaService.class);
+        injector.newInstance(AlphaService.class);
+
+        // then
+        verify(stableHandler1, times(1)).resolve(any(ResolutionContext.class));
+        verify(stableHandler2, times(1)).resolve(any(ResolutionContext.class));
+        verify(unstableHandler, times(6)).resolve(any(ResolutionContext.class));
+    }
+
+    @Test
+    public void shouldConsultAllHandlersAfterProviderRegistration() {
+        // given
+        BetaManager createdManager = injector.newInstance(BetaManager.class);
+        BetaManager providedManager = mock(BetaManager.class);
+
+        // when
+        injector.registerProvider(BetaManager.class, () -> providedManager);
+        BetaManager result = injector.newInstance(BetaManager.class);
+
+        // then
+        assertThat(createdManager, not(sameInstance(providedManager)));
+        assertThat(result, sameInstance(providedManager));
+    }
+
+    @Test
+    public void shouldCreateObjectsOnAsyncExecutor() {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger submittedTasks = new AtomicInteger();
+        Injector asyncInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setAsyncExecutor(task -> {
+                submittedTasks.incrementAndGet();
+                executor.execute(task);
+            })
+            .create();
+        asyncInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        AlphaServiceAsyncCreator creator = asyncInjector.getSingleton(AlphaServiceAsyncCreator.class);
+
+        try {
+            // when
+            AlphaService alphaService1 = creator.createAlphaService().join();
+            AlphaService alphaService2 = asyncInjector.getAsyncProvider(AlphaService.class).getAsync().join();
+
+            // then
+            assertThat(alphaService1, not(sameInstance(alphaService2)));
+            assertThat(alphaService1.getProvidedClass(), sameInstance(alphaService2.getProvidedClass()));
+            assertThat(submittedTasks.get(), equalTo(2));
+            assertThat(asyncInjector.getIfAvailable(AlphaService.class), nullValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldHaveDefaultAsyncExecutor() {
+        // given / when
+        AlphaService alphaService = injector.getAsyncProvider(AlphaService.class).getAsync().join();
+
+        // then
+        assertThat(alphaService, not(nullValue()));
+        assertThat(config.getAsyncExecutor(), not(nullValue()));
+    }
+
+    @Test
+    public void shouldCreateDefaultAsyncExecutorOnlyOnce() throws Exception {
+        // given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Executor>> asyncExecutors = new ArrayList<>();
+
+        try {
+            // when
+            for (int i = 0; i < threads; ++i) {
+                asyncExecutors.add(executor.submit(() -> {
+                    start.await();
+                    return config.getAsyncExecutor();
+                }));
+            }
+            start.countDown();
+
+            // then
+            Executor asyncExecutor = asyncExecutors.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Executor> future : asyncExecutors) {
+                assertThat(future.get(5, TimeUnit.SECONDS), sameInstance(asyncExecutor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotShutDownAsyncExecutorSetOnBuilder() {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setAsyncExecutor(executor)
+            .create();
+
+        try {
+            // when
+            injector.close();
+
+            // then
+            assertThat(executor.isShutdown(), equalTo(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldPublishRegisteredObjectToConcurrentReaders() throws Exception {
+        // given
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        CountDownLatch readersStarted = new CountDownLatch(readers);
+        Runnable registeredObject = () -> { };
+        List<Future<Runnable>> results = new ArrayList<>();
+        for (int i = 0; i < readers; ++i) {
+            results.add(executor.submit(() -> {
+                readersStarted.countDown();
+                Runnable result;
+                while ((result = injector.getIfAvailable(Runnable.class)) == null) {
+                    Thread.yield();
+                }
+                return result;
+            }));
+        }
+
+        try {
+            // when
+            readersStarted.await(5, TimeUnit.SECONDS);
+            injector.register(Runnable.class, registeredObject);
+
+            // then
+            for (Future<Runnable> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), sameInstance(registeredObject));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package ch.jalu.injector.context;
+
+import ch.jalu.injector.TestUtils;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.FieldInjectionWithAnnotations;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.GenericClasses;
+import ch.jalu.injector.samples.QualifiedClasses;
+import ch.jalu.injector.samples.Size;
+import ch.jalu.injector.utils.Qualifiers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javax.inject.Named;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link BindingKey}.
+ */
+public class BindingKeyTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldCreateKeyWithQualifierOfIdentifier() throws NoSuchFieldException {
+        // given
+        Named named = getFieldAnnotation("primaryStorage", Named.class);
+        ObjectIdentifier identifier = new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            QualifiedClasses.Storage.class, getSizeAnnotation(), named);
+
+        // when
+        BindingKey key = identifier.getBindingKey();
+
+        // then
+        assertThat(key.getType(), equalTo(QualifiedClasses.Storage.class));
+        assertThat(key.getQualifier(), sameInstance(named));
+        assertThat(key.isQualified(), equalTo(true));
+        assertThat(identifier.getBindingKey(), sameInstance(key));
+    }
+
+    @Test
+    public void shouldCreateUnqualifiedKeyForIdentifierWithoutQualifier() throws NoSuchFieldException {
+        // given
+        ObjectIdentifier identifier = new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            QualifiedClasses.Storage.class, getSizeAnnotation());
+
+        // when
+        BindingKey key = BindingKey.of(identifier);
+
+        // then
+        assertThat(key.getQualifier(), nullValue());
+        assertThat(key.isQualified(), equalTo(false));
+        assertThat(key, equalTo(BindingKey.of(QualifiedClasses.Storage.class)));
+    }
+
+    @Test
+    public void shouldConsiderKeysWithEqualQualifiersEqual() throws NoSuchFieldException {
+        // given
+        Named declaredNamed = getFieldAnnotation("primaryStorage", Named.class);
+        BindingKey declaredKey = BindingKey.of(QualifiedClasses.Storage.class, declaredNamed);
+
+        // when
+        BindingKey createdKey = BindingKey.of(QualifiedClasses.Storage.class, Qualifiers.named("primary"));
+
+        // then
+        assertThat(createdKey, equalTo(declaredKey));
+        assertThat(createdKey.hashCode(), equalTo(declaredKey.hashCode()));
+        assertThat(Qualifiers.named("primary"), equalTo(declaredNamed));
+        assertThat(Qualifiers.named("primary").hashCode(), equalTo(declaredNamed.hashCode()));
+        assertThat(createdKey, not(BindingKey.of(QualifiedClasses.Storage.class, Qualifiers.named("backup"))));
+        assertThat(createdKey, not(BindingKey.of(QualifiedClasses.NamedStorage.class, Qualifiers.named("primary"))));
+    }
+
+    @Test
+    public void shouldThrowForNonQualifierAnnotation() throws NoSuchFieldException {
+        // given
+        Size size = getSizeAnnotation();
+
+        // expect
+        exceptionCatcher.expect("is not a qualifier (missing @Qualifier)");
+
+        // when
+        BindingKey.of(QualifiedClasses.Storage.class, size);
+    }
+
+    @Test
+    public void shouldCreateGenericKeyForParameterizedType() throws NoSuchFieldException {
+        // given
+        Type declaredType = GenericClasses.CacheConsumer.class.getDeclaredField("alphaCache").getGenericType();
+        Type createdType = TestUtils.createParameterizedType(GenericClasses.Cache.class, AlphaService.class);
+        Type otherType = TestUtils.createParameterizedType(GenericClasses.Cache.class, GammaService.class);
+
+        // when
+        BindingKey declaredKey = new ObjectIdentifier(StandardResolutionType.SINGLETON, declaredType).getBindingKey();
+        BindingKey createdKey = new ObjectIdentifier(StandardResolutionType.SINGLETON, createdType).getBindingKey();
+        BindingKey otherKey = new ObjectIdentifier(StandardResolutionType.SINGLETON, otherType).getBindingKey();
+
+        // then
+        assertThat(declaredKey.isGeneric(), equalTo(true));
+        assertThat(declaredKey.getRawType(), equalTo(GenericClasses.Cache.class));
+        assertThat(createdKey, equalTo(declaredKey));
+        assertThat(createdKey.getType(), sameInstance(declaredKey.getType()));
+        assertThat(otherKey, not(declaredKey));
+        assertThat(declaredKey, not(BindingKey.of(GenericClasses.Cache.class)));
+    }
+
+    @Test
+    public void shouldUseRawTypeForGenericTypeWithTypeVariable() {
+        // given
+        Type typeVariable = Optional.class.getTypeParameters()[0];
+        Type type = TestUtils.createParameterizedType(GenericClasses.Cache.class, typeVariable);
+
+        // when
+        BindingKey key = new ObjectIdentifier(StandardResolutionType.SINGLETON, type).getBindingKey();
+
+        // then
+        assertThat(key.isGeneric(), equalTo(false));
+        assertThat(key, equalTo(BindingKey.of(GenericClasses.Cache.class)));
+    }
+
+    private static Size getSizeAnnotation() throws NoSuchFieldException {
+        return FieldInjectionWithAnnotations.class.getDeclaredField("size")
+            .getAnnotation(Size.class);
+    }
+
+    private static <A extends Annotation> A getFieldAnnotation(String field, Class<A> annotation)
+            throws NoSuchFieldException {
+        return QualifiedClasses.StorageConsumer.class.getDeclaredField(field).getAnnotation(annotation);
+    }
+}
@@ -19,6 +19,8 @@ import static ch.jalu.injector.TestUtils.createParameterizedType;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -82,6 +84,57 @@ public class ObjectIdentifierTest {
         identifier.getTypeAsClass();
     }
 
+    @Test
+    public void shouldDefineEqualityOverAllValues() {
+        // given
+        Size size = newSizeAnnotation("3245");
+        ObjectIdentifier identifier = new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            createParameterizedType(List.class, Double.class), size);
+
+        // when / then
+        ObjectIdentifier equalIdentifier = new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            createParameterizedType(List.class, Double.class), size);
+        assertThat(equalIdentifier, equalTo(identifier));
+        assertThat(equalIdentifier.hashCode(), equalTo(identifier.hashCode()));
+        assertThat(identifier, not(new ObjectIdentifier(StandardResolutionType.REQUEST_SCOPED,
+            createParameterizedType(List.class, Double.class), size)));
+        assertThat(identifier, not(new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            createParameterizedType(List.class, String.class), size)));
+        assertThat(identifier, not(new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            createParameterizedType(List.class, Double.class))));
+    }
+
+    @Test
+    public void shouldReturnInternedIdentifier() {
+        // given
+        ObjectIdentifier identifier = ObjectIdentifier.of(StandardResolutionType.SINGLETON, Charlie.class);
+
+        // when
+        ObjectIdentifier result = ObjectIdentifier.of(StandardResolutionType.SINGLETON, Charlie.class);
+
+        // then
+        assertThat(result, sameInstance(identifier));
+        assertThat(ObjectIdentifier.of(StandardResolutionType.REQUEST_SCOPED, Charlie.class),
+            not(sameInstance(identifier)));
+    }
+
+    @Test
+    public void shouldReturnSameIdentifierForEqualParameterizedTypes() {
+        // given
+        ObjectIdentifier identifier = ObjectIdentifier.of(StandardResolutionType.SINGLETON,
+            createParameterizedType(Optional.class, Duration.class));
+
+        // when
+        ObjectIdentifier result = ObjectIdentifier.of(StandardResolutionType.SINGLETON,
+            createParameterizedType(Optional.class, Duration.class));
+
+        // then
+        assertThat(result, sameInstance(identifier));
+        assertThat(ObjectIdentifier.of(StandardResolutionType.SINGLETON,
+            createParameterizedType(Optional.class, Duration.class), newSizeAnnotation("1")),
+            not(sameInstance(identifier)));
+    }
+
     private static final class WildcardTypeImpl implements WildcardType {
         @Override
         public Type[] getUpperBounds() {
@@ -3,7 +3,11 @@ package ch.jalu.injector.context;
 import ch.jalu.injector.exceptions.InjectorException;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -28,4 +32,26 @@ public class ResolutionContextTest {
                 containsString("New mapped class '" + String.class + "' is not a child of original class"));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldCreateChildContextsWithParents() {
+        // given
+        ResolutionContext root =
+            new ResolutionContext(null, ObjectIdentifier.of(StandardResolutionType.SINGLETON, Number.class));
+
+        // when
+        ResolutionContext child = root.createChildContext(
+            ObjectIdentifier.of(StandardResolutionType.SINGLETON, Integer.class));
+        ResolutionContext grandChild = child.createChildContext(
+            ObjectIdentifier.of(StandardResolutionType.REQUEST_SCOPED, String.class));
+
+        // then
+        assertThat(root.getParents(), empty());
+        assertThat(child.getParents(), contains(root));
+        assertThat(grandChild.getParents(), contains(root, child));
+        assertThat(grandChild.getParent(), sameInstance(child));
+        assertThat(grandChild.getRoot(), sameInstance(root));
+        assertThat(root.getParent(), nullValue());
+        assertThat(root.getRoot(), sameInstance(root));
+    }
+}
@@ -0,0 +1,53 @@
+package ch.jalu.injector.context;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link WeakInterner}.
+ */
+public class WeakInternerTest {
+
+    @Test
+    public void shouldReturnSameInstanceForEqualValues() {
+        // given
+        WeakInterner<String> interner = new WeakInterner<>();
+        String value = new String("value");
+        String equalValue = new String("value");
+
+        // when
+        String result1 = interner.intern(value);
+        String result2 = interner.intern(equalValue);
+
+        // then
+        assertThat(result1, sameInstance(value));
+        assertThat(result2, sameInstance(value));
+        assertThat(interner.intern(new String("other")), not(sameInstance(value)));
+    }
+
+    @Test
+    public void shouldNotKeepUnusedValues() throws InterruptedException {
+        // given
+        WeakInterner<String> interner = new WeakInterner<>();
+        String value = interner.intern(new String("value"));
+        WeakReference<String> valueReference = new WeakReference<>(value);
+
+        // when
+        value = null;
+        for (int i = 0; i < 20 && valueReference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(valueReference.get(), nullValue());
+        assertThat(interner.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,131 @@
+package ch.jalu.injector.graph;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.graph.DependencyGraphExporter.NodeStatistics;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.samples.ReclaimableClasses;
+import ch.jalu.injector.utils.Qualifiers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link DependencyGraphExporter}.
+ */
+public class DependencyGraphExporterTest {
+
+    private Injector injector;
+
+    @Before
+    public void setUpInjector() {
+        injector = new InjectorBuilder().addDefaultHandlers("ch.jalu.injector").create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+        injector.getSingleton(BetaManager.class);
+    }
+
+    @Test
+    public void shouldComputeSubgraphStatistics() {
+        // given
+        DependencyGraphExporter exporter = new DependencyGraphExporter(injector);
+
+        // when
+        List<NodeStatistics> statistics = exporter.computeStatistics();
+
+        // then
+        NodeStatistics providedStats = statistics.get(1);
+        NodeStatistics alphaStats = statistics.get(2);
+        NodeStatistics gammaStats = statistics.get(3);
+        NodeStatistics betaStats = statistics.get(4);
+        assertThat(betaStats.getNode().getType(), equalTo(BetaManager.class));
+        assertThat(betaStats.getInstanceType(), equalTo(BetaManager.class));
+        assertThat(betaStats.getShallowSize(), equalTo(24L));
+        // Other singletons are not part of the retained size
+        assertThat(betaStats.getRetainedSize(), equalTo(24L));
+        assertThat(gammaStats.getSubgraphSize(),
+            equalTo(providedStats.getRetainedSize() + alphaStats.getRetainedSize() + gammaStats.getRetainedSize()));
+        // Every singleton of the subgraph is only counted once
+        assertThat(betaStats.getSubgraphSize(), equalTo(gammaStats.getSubgraphSize() + betaStats.getRetainedSize()));
+        assertThat(betaStats.getSubgraphNanos(), equalTo(
+            betaStats.getNode().getConstructionNanos() + gammaStats.getNode().getConstructionNanos()
+            + alphaStats.getNode().getConstructionNanos()));
+    }
+
+    @Test
+    public void shouldIncludeReachableObjectsInRetainedSize() {
+        // given
+        ReclaimableClasses.WeakCache cache = injector.getSingleton(ReclaimableClasses.WeakCache.class);
+        DependencyGraphExporter exporter = new DependencyGraphExporter(injector);
+
+        // when
+        List<NodeStatistics> statistics = exporter.computeStatistics();
+
+        // then
+        NodeStatistics cacheStats = statistics.stream()
+            .filter(stats -> stats.getNode().getType() == ReclaimableClasses.WeakCache.class)
+            .findFirst().get();
+        assertThat(cacheStats.getShallowSize(), equalTo(16L));
+        assertThat(cacheStats.getRetainedSize(), equalTo(16L + 16L + 8L * cache.getData().length));
+    }
+
+    @Test
+    public void shouldExportToDot() {
+        // given
+        DependencyGraphExporter exporter = new DependencyGraphExporter(injector);
+
+        // when
+        String dot = exporter.toDot();
+
+        // then
+        assertThat(dot, startsWith("digraph singletons {\n"));
+        assertThat(dot, containsString("  \"" + GammaService.class.getName() + "\" [label=\"GammaService\\n"));
+        assertThat(dot, containsString(
+            "  \"" + GammaService.class.getName() + "\" -> \"" + AlphaService.class.getName() + "\";\n"));
+        assertThat(dot, endsWith("}\n"));
+    }
+
+    @Test
+    public void shouldExportToJson() {
+        // given
+        DependencyGraphExporter exporter = new DependencyGraphExporter(injector);
+
+        // when
+        String json = exporter.toJson();
+
+        // then
+        assertThat(json, startsWith("{\"nodes\":[{\"type\":\"ch.jalu.injector.Injector\","
+            + "\"instanceType\":\"ch.jalu.injector.InjectorImpl\","));
+        assertThat(json, containsString("{\"type\":\"" + AlphaService.class.getName() + "\",\"instanceType\":\""
+            + AlphaService.class.getName() + "\",\"constructionNanos\":"));
+        assertThat(json, containsString("\"dependencies\":[\"" + ProvidedClass.class.getName() + "\",\""
+            + GammaService.class.getName() + "\",\"" + AlphaService.class.getName() + "\"]}]}"));
+    }
+
+    @Test
+    public void shouldEscapeControlCharacters() {
+        // given
+        injector.register(ProvidedClass.class, Qualifiers.named("a\nb\t\u0001\"c\\"), new ProvidedClass(""));
+        DependencyGraphExporter exporter = new DependencyGraphExporter(injector);
+
+        // when
+        String json = exporter.toJson();
+        String dot = exporter.toDot();
+
+        // then
+        String escapedName = "a\\nb\\t\\u0001\\\"c\\\\";
+        assertThat(json, containsString(escapedName));
+        assertThat(json, not(containsString("\n")));
+        assertThat(dot, containsString(escapedName));
+    }
+}
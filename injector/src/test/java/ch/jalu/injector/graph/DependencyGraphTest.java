@@ -0,0 +1,52 @@
+package ch.jalu.injector.graph;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link DependencyGraph}.
+ */
+public class DependencyGraphTest {
+
+    @Test
+    public void shouldRecordSingletonsWithDependencies() {
+        // given
+        Injector injector = new InjectorBuilder().addDefaultHandlers("ch.jalu.injector").create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        injector.getSingleton(BetaManager.class);
+        injector.newInstance(GammaService.class);
+
+        // then
+        DependencyGraph graph = injector.getDependencyGraph();
+        List<Class<?>> types = graph.getNodes().stream().map(SingletonNode::getType).collect(Collectors.toList());
+        assertThat(types, contains(Injector.class, ProvidedClass.class, AlphaService.class, GammaService.class,
+            BetaManager.class));
+
+        assertThat(graph.getNode(ProvidedClass.class).getDependencies(), empty());
+        assertThat(graph.getNode(ProvidedClass.class).getConstructionNanos(), equalTo(0L));
+        assertThat(graph.getNode(AlphaService.class).getDependencies(), contains(ProvidedClass.class));
+        assertThat(graph.getNode(GammaService.class).getDependencies(), contains(AlphaService.class));
+        assertThat(graph.getNode(BetaManager.class).getDependencies(),
+            contains(ProvidedClass.class, GammaService.class, AlphaService.class));
+        assertThat(graph.getNode(BetaManager.class).getConstructionNanos(), greaterThan(0L));
+        assertThat(graph.getNode(BetaManager.class).getCreationIndex(), equalTo(4));
+        assertThat(graph.getNode(String.class), nullValue());
+    }
+}
@@ -0,0 +1,74 @@
+package ch.jalu.injector.graph;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.samples.ReclaimableClasses;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link ObjectSizeEstimator}.
+ */
+public class ObjectSizeEstimatorTest {
+
+    private final ObjectSizeEstimator estimator = new ObjectSizeEstimator();
+
+    @Test
+    public void shouldEstimateSizeOfObjects() {
+        // given / when / then
+        assertThat(estimator.estimateShallowSize(new Object()), equalTo(16L));
+        assertThat(estimator.estimateShallowSize(new ProvidedClass("")), equalTo(16L));
+        assertThat(estimator.estimateShallowSize(AlphaService.newInstance(null)), equalTo(16L));
+        assertThat(estimator.estimateShallowSize(new BetaManager()), equalTo(24L));
+        assertThat(estimator.estimateShallowSize(Long.valueOf(3L)), equalTo(24L));
+    }
+
+    @Test
+    public void shouldEstimateSizeOfArrays() {
+        // given / when / then
+        assertThat(estimator.estimateShallowSize(new int[3]), equalTo(32L));
+        assertThat(estimator.estimateShallowSize(new String[0]), equalTo(16L));
+        assertThat(estimator.estimateShallowSize(new byte[17]), equalTo(40L));
+    }
+
+    @Test
+    public void shouldEstimateRetainedSize() {
+        // given
+        ReclaimableClasses.WeakCache cache = new ReclaimableClasses.WeakCache();
+        ProvidedClass providedClass = new ProvidedClass("");
+        AlphaService alphaService = AlphaService.newInstance(providedClass);
+        Set<Object> boundaries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        // when
+        long cacheSize = estimator.estimateRetainedSize(cache, boundaries);
+        long alphaSize = estimator.estimateRetainedSize(alphaService, boundaries);
+        boundaries.add(providedClass);
+        long alphaSizeWithBoundary = estimator.estimateRetainedSize(alphaService, boundaries);
+
+        // then
+        assertThat(cacheSize, equalTo(16L + 16L + 1024 * 8L));
+        assertThat(alphaSize, equalTo(32L));
+        assertThat(alphaSizeWithBoundary, equalTo(16L));
+    }
+
+    @Test
+    public void shouldCountObjectsOfCyclicReferencesOnce() {
+        // given
+        Object[] array1 = new Object[1];
+        Object[] array2 = new Object[]{ array1, array1 };
+        array1[0] = array2;
+
+        // when
+        long size = estimator.estimateRetainedSize(array1, Collections.emptySet());
+
+        // then
+        assertThat(size, equalTo(estimator.estimateShallowSize(array1) + estimator.estimateShallowSize(array2)));
+    }
+}
@@ -0,0 +1,274 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.annotations.Assisted;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.factory.AssistedFactory;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.InstantiationFallbackClasses.FallbackClass;
+import ch.jalu.injector.samples.Invoice;
+import ch.jalu.injector.samples.InvoiceService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.lang.reflect.Type;
+
+import static ch.jalu.injector.TestUtils.createParameterizedType;
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link AssistedFactoryDependencyHandler}.
+ */
+public class AssistedFactoryDependencyHandlerTest {
+
+    private AssistedFactoryDependencyHandler handler = new AssistedFactoryDependencyHandler();
+    private Injector injector;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Before
+    public void setUpInjector() {
+        injector = new InjectorBuilder().addDefaultHandlers("ch.jalu.injector").create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+    }
+
+    @Test
+    public void shouldCreateObjectsWithAssistedValues() {
+        // given
+        InvoiceService invoiceService = injector.getSingleton(InvoiceService.class);
+
+        // when
+        Invoice invoice1 = invoiceService.createInvoice("Bob", 20);
+        Invoice invoice2 = invoiceService.createInvoice("Alice", 35);
+
+        // then
+        assertThat(invoice1.getCustomer(), equalTo("Bob"));
+        assertThat(invoice1.getAmount(), equalTo(20));
+        assertThat(invoice2.getCustomer(), equalTo("Alice"));
+        assertThat(invoice2.getAmount(), equalTo(35));
+        assertThat(invoice1.getAlphaService(), sameInstance(injector.getSingleton(AlphaService.class)));
+        assertThat(invoice2.getAlphaService(), sameInstance(invoice1.getAlphaService()));
+    }
+
+    @Test
+    public void shouldPassCreatedObjectsToInstantiationHandlers() throws Exception {
+        // given
+        Handler instantiationHandler = mock(Handler.class);
+        Injector injector = new InjectorBuilder()
+            .addHandlers(instantiationHandler)
+            .addDefaultHandlers("ch.jalu.injector")
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+        InvoiceService invoiceService = injector.getSingleton(InvoiceService.class);
+
+        // when
+        Invoice invoice = invoiceService.createInvoice("Bob", 20);
+
+        // then
+        verify(instantiationHandler).onInstantiation(same(invoice), any(ResolutionContext.class), anyLong());
+    }
+
+    @Test
+    public void shouldDeclareInjectedParametersAsDependencies() {
+        // given / when
+        Resolution<?> resolution = handler.resolve(newFactoryContext(Invoice.class));
+
+        // then
+        assertThat(resolution.getDependencies(), contains(hasType(AlphaService.class)));
+        assertThat(handler.resolve(newFactoryContext(Invoice.class)).getDependencies(),
+            sameInstance(resolution.getDependencies()));
+    }
+
+    @Test
+    public void shouldThrowForWrongNumberOfAssistedValues() {
+        // given
+        AssistedFactory<Invoice> factory = createFactory();
+
+        // expect
+        exceptionCatcher.expect("Expected 2 assisted values (String, int)");
+
+        // when
+        factory.create("Bob");
+    }
+
+    @Test
+    public void shouldThrowForAssistedValueOfWrongType() {
+        // given
+        AssistedFactory<Invoice> factory = createFactory();
+
+        // expect
+        exceptionCatcher.expect("Assisted value 2");
+
+        // when
+        factory.create("Bob", "twenty");
+    }
+
+    @Test
+    public void shouldThrowForNullPrimitiveValue() {
+        // given
+        AssistedFactory<Invoice> factory = createFactory();
+
+        // expect
+        exceptionCatcher.expect("must be of type int");
+
+        // when
+        factory.create("Bob", null);
+    }
+
+    @Test
+    public void shouldThrowForClassWithoutInjectConstructor() {
+        // expect
+        exceptionCatcher.expect("must have an @Inject constructor");
+
+        // when
+        handler.resolve(newFactoryContext(FallbackClass.class));
+    }
+
+    @Test
+    public void shouldThrowForClassWithInjectFields() {
+        // expect
+        exceptionCatcher.expect("only support constructor injection");
+
+        // when
+        handler.resolve(newFactoryContext(ClassWithInjectField.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldRunPostConstructMethodsOfCreatedObjects() {
+        // given
+        AssistedFactory<ClassWithPostConstruct> factory = (AssistedFactory<ClassWithPostConstruct>) handler
+            .resolve(newFactoryContext(ClassWithPostConstruct.class))
+            .instantiateWith();
+
+        // when
+        ClassWithPostConstruct object = factory.create("test");
+
+        // then
+        assertThat(object.getName(), equalTo("test"));
+        assertThat(object.wasPostConstructCalled(), equalTo(true));
+    }
+
+    @Test
+    public void shouldThrowForClassWithoutAssistedParameters() {
+        // expect
+        exceptionCatcher.expect("has no @Assisted parameters");
+
+        // when
+        handler.resolve(newFactoryContext(ClassWithoutAssistedParameters.class));
+    }
+
+    @Test
+    public void shouldThrowForUnspecifiedGenerics() {
+        // expect
+        exceptionCatcher.expect("Assisted factory fields must have concrete generic type.");
+
+        // when
+        handler.resolve(newContext(AssistedFactory.class));
+    }
+
+    @Test
+    public void shouldReturnNullForOtherType() {
+        // given / when
+        Resolution<?> resolution = handler.resolve(newContext(BetaManager.class));
+
+        // then
+        assertThat(resolution, nullValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private AssistedFactory<Invoice> createFactory() {
+        AssistedFactory<Invoice> factory = (AssistedFactory<Invoice>) handler
+            .resolve(newFactoryContext(Invoice.class))
+            .instantiateWith(injector.getSingleton(AlphaService.class));
+        assertThat(factory, not(nullValue()));
+        return factory;
+    }
+
+    private ResolutionContext newFactoryContext(Class<?> clazz) {
+        return newContext(createParameterizedType(AssistedFactory.class, clazz));
+    }
+
+    private ResolutionContext newContext(Type type) {
+        return new ResolutionContext(injector, new ObjectIdentifier(SINGLETON, type));
+    }
+
+    private static Matcher<ObjectIdentifier> hasType(Type type) {
+        return new TypeSafeMatcher<ObjectIdentifier>() {
+            @Override
+            protected boolean matchesSafely(ObjectIdentifier identifier) {
+                return identifier.getType().equals(type);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("identifier of type " + type);
+            }
+        };
+    }
+
+    private static final class ClassWithInjectField {
+        @Inject
+        private AlphaService alphaService;
+
+        @Inject
+        ClassWithInjectField(@Assisted String name) {
+        }
+    }
+
+    private static final class ClassWithPostConstruct {
+        private final String name;
+        private boolean postConstructCalled;
+
+        @Inject
+        ClassWithPostConstruct(@Assisted String name) {
+            this.name = name;
+        }
+
+        @PostConstruct
+        private void init() {
+            postConstructCalled = true;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean wasPostConstructCalled() {
+            return postConstructCalled;
+        }
+    }
+
+    private static final class ClassWithoutAssistedParameters {
+        @Inject
+        ClassWithoutAssistedParameters(AlphaService alphaService) {
+        }
+    }
+}
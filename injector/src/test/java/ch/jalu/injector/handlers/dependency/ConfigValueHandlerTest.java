@@ -0,0 +1,170 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.samples.ConfiguredClient;
+import ch.jalu.injector.samples.ConfiguredService;
+import ch.jalu.injector.samples.Size;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link ConfigValueHandler}.
+ */
+public class ConfigValueHandlerTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldInjectConfigurationValues() {
+        // given
+        Properties properties = new Properties();
+        properties.setProperty("server.port", " 8080");
+        properties.setProperty("server.timeout", "PT30S");
+        properties.setProperty("server.name", "main");
+        properties.setProperty("server.unit", "SECONDS");
+        properties.setProperty("cache.size", "500");
+        ConfigValueHandler handler = new ConfigValueHandler(PropertySource.of(properties));
+        handler.addKeyAnnotation(Size.class);
+        Injector injector = createInjector(handler);
+
+        // when
+        ConfiguredService service = injector.getSingleton(ConfiguredService.class);
+
+        // then
+        assertThat(service.getPort(), equalTo(8080));
+        assertThat(service.getTimeout(), equalTo(Duration.ofSeconds(30)));
+        assertThat(service.getName(), equalTo("main"));
+        assertThat(service.getUnit(), equalTo(TimeUnit.SECONDS));
+        assertThat(service.getCacheSize(), equalTo(500L));
+    }
+
+    @Test
+    public void shouldConvertValuesOnlyOnce() {
+        // given
+        Map<String, String> values = createValues();
+        AtomicInteger conversions = new AtomicInteger();
+        ConfigValueHandler handler = new ConfigValueHandler(PropertySource.of(values));
+        handler.registerConverter(Duration.class, value -> {
+            conversions.incrementAndGet();
+            return Duration.ofMinutes(Long.parseLong(value));
+        });
+        Injector injector = createInjector(handler);
+
+        // when
+        ConfiguredService service1 = injector.newInstance(ConfiguredService.class);
+        ConfiguredService service2 = injector.newInstance(ConfiguredService.class);
+
+        // then
+        assertThat(service1, not(sameInstance(service2)));
+        assertThat(service1.getTimeout(), equalTo(Duration.ofMinutes(5)));
+        assertThat(service2.getTimeout(), sameInstance(service1.getTimeout()));
+        assertThat(conversions.get(), equalTo(1));
+    }
+
+    @Test
+    public void shouldThrowForMissingValue() {
+        // given
+        Map<String, String> values = createValues();
+        values.remove("server.port");
+        Injector injector = createInjector(new ConfigValueHandler(PropertySource.of(values)));
+
+        // when / then
+        exceptionCatcher.expect("No configuration value found for key 'server.port'");
+        injector.getSingleton(ConfiguredService.class);
+    }
+
+    @Test
+    public void shouldThrowForInvalidValue() {
+        // given
+        Map<String, String> values = createValues();
+        values.put("server.port", "http");
+        Injector injector = createInjector(new ConfigValueHandler(PropertySource.of(values)));
+
+        // when / then
+        exceptionCatcher.expect("Could not convert value 'http' of key 'server.port' to int");
+        injector.getSingleton(ConfiguredService.class);
+    }
+
+    @Test
+    public void shouldParseDurationInMillis() {
+        // given
+        Map<String, String> values = createValues();
+        values.put("server.timeout", "1500");
+        Injector injector = createInjector(new ConfigValueHandler(PropertySource.of(values)));
+
+        // when
+        ConfiguredService service = injector.getSingleton(ConfiguredService.class);
+
+        // then
+        assertThat(service.getTimeout(), equalTo(Duration.ofMillis(1500)));
+    }
+
+    @Test
+    public void shouldResolvePreviouslyDeclinedDependencyAfterRegisteringConverter() {
+        // given
+        Map<String, String> values = new HashMap<>();
+        values.put("client.endpoint", "https://example.org");
+        ConfigValueHandler handler = new ConfigValueHandler(PropertySource.of(values));
+        Injector injector = new InjectorBuilder()
+            .addHandlers(handler)
+            .addDefaultHandlers("ch.jalu.injector")
+            .setAllowUnboundQualifiers(true)
+            .create();
+        try {
+            injector.getSingleton(ConfiguredClient.class);
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // expected: the endpoint has no converter and cannot be instantiated
+        }
+
+        // when
+        handler.registerConverter(ConfiguredClient.Endpoint.class, ConfiguredClient.Endpoint::new);
+        ConfiguredClient client = injector.getSingleton(ConfiguredClient.class);
+
+        // then
+        assertThat(client.getEndpoint().getUrl(), equalTo("https://example.org"));
+    }
+
+    @Test
+    public void shouldHaveStableResolutions() {
+        // given / when / then
+        assertThat(new ConfigValueHandler(PropertySource.of(new HashMap<>())).hasStableResolutions(), equalTo(true));
+    }
+
+    private static Map<String, String> createValues() {
+        Map<String, String> values = new HashMap<>();
+        values.put("server.port", "80");
+        values.put("server.timeout", "5");
+        values.put("server.name", "test");
+        values.put("server.unit", "MINUTES");
+        values.put("cache.size", "20");
+        return values;
+    }
+
+    private static Injector createInjector(ConfigValueHandler handler) {
+        handler.addKeyAnnotation(Size.class);
+        return new InjectorBuilder()
+            .addHandlers(handler)
+            .addDefaultHandlers("ch.jalu.injector")
+            .create();
+    }
+}
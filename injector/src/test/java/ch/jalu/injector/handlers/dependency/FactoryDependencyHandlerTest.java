@@ -11,6 +11,7 @@ import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
 import ch.jalu.injector.handlers.instantiation.Resolution;
 import ch.jalu.injector.handlers.instantiation.StandardInjectionProvider;
+import ch.jalu.injector.handlers.testimplementations.ListeningDependencyHandler;
 import ch.jalu.injector.samples.BetaManager;
 import ch.jalu.injector.samples.ProvidedClass;
 import ch.jalu.injector.samples.inheritance.Child;
@@ -26,10 +27,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static ch.jalu.injector.TestUtils.createParameterizedType;
 import static ch.jalu.injector.TestUtils.findOrThrow;
 import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -82,6 +86,22 @@ public class FactoryDependencyHandlerTest {
         factory.newInstance((Class) Grandparent.class);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCreateInstancesAsynchronously() {
+        // given
+        Factory<Parent> factory = getFactoryForClass(Parent.class);
+
+        // when
+        CompletableFuture<Child> childFuture1 = factory.newInstanceAsync(Child.class);
+        CompletableFuture<Child> childFuture2 = factory.newInstanceAsync(Child.class);
+        CompletableFuture<Parent> invalidFuture = factory.newInstanceAsync((Class) Grandparent.class);
+
+        // then
+        assertThat(childFuture1.join(), not(sameInstance(childFuture2.join())));
+        assertThat(invalidFuture.isCompletedExceptionally(), equalTo(true));
+    }
+
     @Test
     public void shouldAllowObjectAsClass() {
         // given
@@ -97,6 +117,49 @@ public class FactoryDependencyHandlerTest {
         assertThat(betaManager, not(sameInstance(injector.getSingleton(BetaManager.class))));
     }
 
+    @Test
+    public void shouldNotResolveClassAgainForSubsequentInstances() {
+        // given
+        ListeningDependencyHandler listeningHandler = new ListeningDependencyHandler();
+        ((InjectorImpl) injector).getConfig().getHandlers().add(0, listeningHandler);
+        Factory<Grandparent> factory = getFactoryForClass(Grandparent.class);
+        Child child1 = factory.newInstance(Child.class);
+        int resolutionsAfterFirstCall = listeningHandler.getCounter();
+
+        // when
+        Child child2 = factory.newInstance(Child.class);
+        Child child3 = factory.newInstance(Child.class);
+
+        // then
+        assertThat(listeningHandler.getCounter(), equalTo(resolutionsAfterFirstCall));
+        assertThat(child2, not(sameInstance(child1)));
+        assertThat(child3, not(sameInstance(child2)));
+    }
+
+    @Test
+    public void shouldResolveClassesFullyBeyondCacheLimit() {
+        // given
+        ListeningDependencyHandler listeningHandler = new ListeningDependencyHandler();
+        List<Handler> handlers = createHandlers();
+        handlers.replaceAll(h -> h instanceof FactoryDependencyHandler ? new FactoryDependencyHandler(1) : h);
+        handlers.add(0, listeningHandler);
+        injector = new InjectorBuilder().addHandlers(handlers).create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+        Factory<Grandparent> factory = getFactoryForClass(Grandparent.class);
+        factory.newInstance(Child.class);
+        factory.newInstance(Parent.class);
+        int resolutionsAfterFirstCalls = listeningHandler.getCounter();
+
+        // when
+        factory.newInstance(Child.class);
+        int resolutionsAfterCachedClass = listeningHandler.getCounter();
+        factory.newInstance(Parent.class);
+
+        // then
+        assertThat(resolutionsAfterCachedClass, equalTo(resolutionsAfterFirstCalls));
+        assertThat(listeningHandler.getCounter(), greaterThan(resolutionsAfterCachedClass));
+    }
+
     @Test
     public void shouldThrowForUnspecifiedGenerics() {
         // given
@@ -0,0 +1,23 @@
+package ch.jalu.injector.handlers.dependency.providers;
+
+import ch.jalu.injector.annotations.Memoized;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Sample class with a memoizing provider.
+ */
+public class ClassWithMemoizedProvider {
+
+    private final Provider<Charlie> charlieProvider;
+
+    @Inject
+    ClassWithMemoizedProvider(@Memoized Provider<Charlie> charlieProvider) {
+        this.charlieProvider = charlieProvider;
+    }
+
+    public Provider<Charlie> getCharlieProvider() {
+        return charlieProvider;
+    }
+}
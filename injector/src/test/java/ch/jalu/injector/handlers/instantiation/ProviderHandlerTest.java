@@ -9,19 +9,30 @@ import ch.jalu.injector.handlers.dependency.providers.Alfa;
 import ch.jalu.injector.handlers.dependency.providers.Bravo;
 import ch.jalu.injector.handlers.dependency.providers.Charlie;
 import ch.jalu.injector.handlers.dependency.providers.ClassWithInjectedProviders;
+import ch.jalu.injector.handlers.dependency.providers.ClassWithMemoizedProvider;
 import ch.jalu.injector.handlers.dependency.providers.Delta;
 import ch.jalu.injector.handlers.dependency.providers.Delta1;
 import ch.jalu.injector.handlers.dependency.providers.Delta1Provider;
 import ch.jalu.injector.handlers.dependency.providers.Delta2;
 import ch.jalu.injector.handlers.dependency.providers.Delta2Provider;
+import ch.jalu.injector.handlers.testimplementations.ListeningDependencyHandler;
 import org.junit.Test;
 
 import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
@@ -210,6 +221,45 @@ public class ProviderHandlerTest {
         assertThat(cwip.getBravo(), sameInstance(bravo));
     }
 
+    @Test
+    public void shouldInjectMemoizingProvider() {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector")
+            .create();
+
+        // when
+        ClassWithMemoizedProvider object = injector.getSingleton(ClassWithMemoizedProvider.class);
+
+        // then
+        assertThat(injector.getIfAvailable(Charlie.class), nullValue());
+        Charlie charlie = object.getCharlieProvider().get();
+        assertThat(charlie, sameInstance(injector.getSingleton(Charlie.class)));
+        assertThat(object.getCharlieProvider().get(), sameInstance(charlie));
+    }
+
+    @Test
+    public void shouldInjectDefaultProviderResolvingClassOnce() {
+        // given
+        ListeningDependencyHandler listeningHandler = new ListeningDependencyHandler();
+        Injector injector = new InjectorBuilder()
+            .addHandlers(listeningHandler)
+            .addDefaultHandlers("ch.jalu.injector")
+            .create();
+        ClassWithInjectedProviders cwip = injector.getSingleton(ClassWithInjectedProviders.class);
+        Charlie firstCharlie = cwip.getCharlieProvider().get();
+        int resolutionsAfterFirstCall = listeningHandler.getCounter();
+
+        // when
+        List<Charlie> charlies = cwip.charlieList();
+
+        // then
+        assertThat(listeningHandler.getCounter(), equalTo(resolutionsAfterFirstCall));
+        assertThat(charlies, hasSize(3));
+        assertThat(charlies, not(hasItem(sameInstance(firstCharlie))));
+        assertThat(charlies.get(0), not(sameInstance(charlies.get(1))));
+    }
+
     @Test
     public void shouldThrowForMissingGenericInfo() {
         // given
@@ -244,7 +294,99 @@ public class ProviderHandlerTest {
         verifyZeroInteractions(injector);
     }
 
+    @Test
+    public void shouldCreateProviderClassAndSingletonOnceUnderContention() throws Exception {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector")
+            .create();
+        injector.registerProvider(Delta.class, CountingDeltaProvider.class);
+        CountingDeltaProvider.reset();
+
+        int totalThreads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreads);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Delta>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < totalThreads; ++i) {
+                results.add(executor.submit(() -> {
+                    startSignal.await();
+                    return injector.getSingleton(Delta.class);
+                }));
+            }
+            startSignal.countDown();
+
+            // then
+            Delta delta = injector.getSingleton(Delta.class);
+            for (Future<Delta> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), sameInstance(delta));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(CountingDeltaProvider.PROVIDERS_CREATED.get(), equalTo(1));
+        assertThat(CountingDeltaProvider.VALUES_CREATED.get(), equalTo(1));
+    }
+
+    @Test
+    public void shouldRegisterProvidersConcurrently() throws Exception {
+        // given
+        List<Class<?>> classes = Arrays.asList(Alfa.class, Bravo.class, Charlie.class, Delta.class);
+        ExecutorService executor = Executors.newFixedThreadPool(classes.size());
+        List<Future<?>> registrations = new ArrayList<>();
+
+        // when
+        try {
+            for (Class<?> clazz : classes) {
+                registrations.add(executor.submit(() -> providerHandler.onProvider(clazz, () -> null)));
+            }
+            for (Future<?> registration : registrations) {
+                registration.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        for (Class<?> clazz : classes) {
+            assertThat(providerHandler.resolve(newContext(clazz)), not(nullValue()));
+        }
+    }
+
     private static ResolutionContext newContext(Class<?> clz) {
         return new ResolutionContext(null, new ObjectIdentifier(null, clz));
     }
+
+    public static final class CountingDeltaProvider implements Provider<Delta> {
+
+        static final AtomicInteger PROVIDERS_CREATED = new AtomicInteger();
+        static final AtomicInteger VALUES_CREATED = new AtomicInteger();
+
+        public CountingDeltaProvider() {
+            PROVIDERS_CREATED.incrementAndGet();
+            pause();
+        }
+
+        static void reset() {
+            PROVIDERS_CREATED.set(0);
+            VALUES_CREATED.set(0);
+        }
+
+        @Override
+        public Delta get() {
+            VALUES_CREATED.incrementAndGet();
+            pause();
+            return () -> "counted";
+        }
+
+        private static void pause() {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
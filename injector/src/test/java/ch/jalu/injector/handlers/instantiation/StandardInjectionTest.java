@@ -3,8 +3,10 @@ package ch.jalu.injector.handlers.instantiation;
 import ch.jalu.injector.TestUtils.ExceptionCatcher;
 import ch.jalu.injector.annotations.NoFieldScan;
 import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.StandardResolutionType;
 import ch.jalu.injector.exceptions.InjectorException;
 import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.graph.ObjectSizeEstimator;
 import ch.jalu.injector.samples.AlphaService;
 import ch.jalu.injector.samples.BadFieldInjection;
 import ch.jalu.injector.samples.BetaManager;
@@ -31,7 +33,10 @@ import org.junit.rules.ExpectedException;
 import javax.inject.Inject;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import static ch.jalu.injector.TestUtils.annotationOf;
 import static org.hamcrest.Matchers.arrayContaining;
@@ -41,6 +46,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -90,6 +96,42 @@ public class StandardInjectionTest {
         assertThat(((Size) dependencies.get(1).getAnnotations().get(1)).value(), equalTo("chest"));
     }
 
+    @Test
+    public void shouldReturnSameImmutableDependencies() throws NoSuchFieldException {
+        // given
+        Resolution<BetaManager> injection = provider.safeGet(BetaManager.class);
+        List<ObjectIdentifier> dependencies = injection.getDependencies();
+        Annotation[] fieldAnnotations = BetaManager.class.getDeclaredField("providedClass").getAnnotations();
+
+        // when / then
+        assertThat(injection.getDependencies(), sameInstance(dependencies));
+        assertThat(dependencies.get(0), sameInstance(
+            ObjectIdentifier.of(StandardResolutionType.SINGLETON, ProvidedClass.class, fieldAnnotations)));
+        try {
+            dependencies.set(0, null);
+            fail("Expected exception to be thrown");
+        } catch (UnsupportedOperationException e) {
+            // expected: dependencies may not be modified
+        }
+    }
+
+    @Test
+    public void shouldKeepDependenciesCompact() {
+        // given
+        Resolution<BetaManager> injection = provider.safeGet(BetaManager.class);
+        List<ObjectIdentifier> dependencies = injection.getDependencies();
+        Set<Object> identifiers = Collections.newSetFromMap(new IdentityHashMap<>());
+        identifiers.addAll(dependencies);
+
+        // when
+        long size = new ObjectSizeEstimator().estimateRetainedSize(dependencies, identifiers);
+
+        // then
+        // 24 bytes for the list view and 32 bytes for the array of three identifiers
+        assertThat(dependencies, hasSize(3));
+        assertThat(size, equalTo(56L));
+    }
+
     @Test
     public void shouldInstantiate() {
         // given
@@ -280,6 +322,30 @@ public class StandardInjectionTest {
         assertThat(instance, not(nullValue()));
     }
 
+    @Test
+    public void shouldReuseResolutionForLeafClass() {
+        // given
+        Resolution<FallbackClass> instantiation = provider.safeGet(FallbackClass.class);
+
+        // when
+        Resolution<FallbackClass> result = provider.safeGet(FallbackClass.class);
+
+        // then
+        assertThat(instantiation, instanceOf(LeafInjection.class));
+        assertThat(result, sameInstance(instantiation));
+        assertThat(result.instantiateWith(), not(sameInstance(instantiation.instantiateWith())));
+    }
+
+    @Test
+    public void shouldNotUseLeafInjectionForClassWithDependencies() {
+        // given / when
+        Resolution<BetaManager> instantiation = provider.safeGet(BetaManager.class);
+
+        // then
+        assertThat(instantiation, instanceOf(StandardInjection.class));
+        assertThat(provider.safeGet(BetaManager.class), not(sameInstance(instantiation)));
+    }
+
     @Test
     public void shouldHandleInheritance() {
         // given / when
@@ -0,0 +1,210 @@
+package ch.jalu.injector.handlers.postconstruct;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.samples.AsyncInitClasses.FailingLoader;
+import ch.jalu.injector.samples.AsyncInitClasses.IndexLoader;
+import ch.jalu.injector.samples.AsyncInitClasses.InitGate;
+import ch.jalu.injector.samples.AsyncInitClasses.InvalidReturnType;
+import ch.jalu.injector.samples.AsyncInitClasses.LazyRequester;
+import ch.jalu.injector.samples.AsyncInitClasses.PostConstructRequester;
+import ch.jalu.injector.samples.AsyncInitClasses.QualifiedSearchService;
+import ch.jalu.injector.samples.AsyncInitClasses.SearchService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link AsyncPostConstructMethodInvoker}.
+ */
+public class AsyncPostConstructMethodInvokerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldInitializeSingletonsAsynchronously() throws Exception {
+        // given
+        AsyncPostConstructMethodInvoker asyncInvoker = new AsyncPostConstructMethodInvoker(executor);
+        Injector injector = createInjector(asyncInvoker);
+        InitGate gate = injector.getSingleton(InitGate.class);
+
+        // when
+        SearchService searchService = injector.getSingleton(SearchService.class);
+        CompletableFuture<SearchService> initializedService = injector.getSingletonAsync(SearchService.class);
+
+        // then
+        assertThat(searchService.isReady(), equalTo(false));
+        assertThat(initializedService.isDone(), equalTo(false));
+
+        gate.open();
+        assertThat(initializedService.get(5, TimeUnit.SECONDS), sameInstance(searchService));
+        assertThat(searchService.isReady(), equalTo(true));
+        assertThat(injector.getSingleton(IndexLoader.class).isLoaded(), equalTo(true));
+        assertThat(asyncInvoker.getInitialization(searchService), nullValue());
+    }
+
+    @Test
+    public void shouldWaitForInitializationOfQualifiedDependency() {
+        // given
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector")
+            .addHandlers(new AsyncPostConstructMethodInvoker(tasks::add))
+            .setAllowUnboundQualifiers(true)
+            .create();
+        injector.getSingleton(InitGate.class).open();
+
+        // when
+        QualifiedSearchService searchService = injector.getSingleton(QualifiedSearchService.class);
+
+        // then - only the initialization of the qualified index loader is scheduled
+        assertThat(tasks, hasSize(1));
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+        assertThat(searchService.isReady(), equalTo(true));
+        assertThat(injector.getSingletonAsync(QualifiedSearchService.class).isDone(), equalTo(true));
+    }
+
+    @Test
+    public void shouldWaitForInitializationOfDirectRequest() {
+        // given
+        Injector injector = createInjector(new AsyncPostConstructMethodInvoker(executor, true));
+        injector.getSingleton(InitGate.class).open();
+
+        // when
+        SearchService searchService = injector.getSingleton(SearchService.class);
+
+        // then
+        assertThat(searchService.isReady(), equalTo(true));
+    }
+
+    @Test
+    public void shouldNotHoldLockWhileWaitingForInitialization() throws Exception {
+        // given
+        Injector injector = createInjector(new AsyncPostConstructMethodInvoker(executor, true));
+
+        // when
+        CompletableFuture<LazyRequester> future =
+            CompletableFuture.supplyAsync(() -> injector.getSingleton(LazyRequester.class));
+
+        // then
+        LazyRequester requester = future.get(5, TimeUnit.SECONDS);
+        assertThat(requester.getRequestedLoader(), sameInstance(injector.getSingleton(IndexLoader.class)));
+    }
+
+    @Test
+    public void shouldNotWaitForInitializationOfObjectRequestedInPostConstruct() throws Exception {
+        // given
+        Injector injector = createInjector(new AsyncPostConstructMethodInvoker(executor, true));
+
+        // when
+        CompletableFuture<PostConstructRequester> future =
+            CompletableFuture.supplyAsync(() -> injector.getSingleton(PostConstructRequester.class));
+
+        // then
+        PostConstructRequester requester = future.get(5, TimeUnit.SECONDS);
+        assertThat(requester.getRequester(), sameInstance(injector.getSingleton(LazyRequester.class)));
+        assertThat(injector.getSingleton(LazyRequester.class).getRequestedLoader(),
+            sameInstance(injector.getSingleton(IndexLoader.class)));
+    }
+
+    @Test
+    public void shouldForgetFailedInitializationOfRequestScopedObject() throws InterruptedException {
+        // given
+        AsyncPostConstructMethodInvoker asyncInvoker = new AsyncPostConstructMethodInvoker(executor);
+        Injector injector = createInjector(asyncInvoker);
+
+        // when
+        FailingLoader loader = injector.newInstance(FailingLoader.class);
+
+        // then
+        CompletableFuture<?> initialization = asyncInvoker.getInitialization(loader);
+        if (initialization != null) {
+            initialization.handle((result, error) -> error).join();
+        }
+        for (int i = 0; i < 50 && asyncInvoker.getInitialization(loader) != null; ++i) {
+            Thread.sleep(10);
+        }
+        assertThat(asyncInvoker.getInitialization(loader), nullValue());
+    }
+
+    @Test
+    public void shouldReturnFailedFuture() throws InterruptedException {
+        // given
+        Injector injector = createInjector(new AsyncPostConstructMethodInvoker(executor));
+
+        // when
+        CompletableFuture<FailingLoader> future = injector.getSingletonAsync(FailingLoader.class);
+
+        // then
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Expected exception to be thrown");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause().getCause().getCause().getMessage(), equalTo("Could not load"));
+        } catch (TimeoutException e) {
+            fail("Future did not complete");
+        }
+    }
+
+    @Test
+    public void shouldReturnCompletedFutureForObjectWithoutAsyncInitialization() {
+        // given
+        Injector injector = createInjector(new AsyncPostConstructMethodInvoker(executor));
+        ProvidedClass providedClass = new ProvidedClass("");
+        injector.register(ProvidedClass.class, providedClass);
+
+        // when
+        CompletableFuture<ProvidedClass> future = injector.getSingletonAsync(ProvidedClass.class);
+
+        // then
+        assertThat(future.getNow(null), sameInstance(providedClass));
+    }
+
+    @Test
+    public void shouldThrowForInvalidReturnType() {
+        // given
+        Injector injector = createInjector(new AsyncPostConstructMethodInvoker(executor));
+
+        // when / then
+        exceptionCatcher.expect("must return void or a CompletionStage");
+        injector.getSingleton(InvalidReturnType.class);
+    }
+
+    private static Injector createInjector(AsyncPostConstructMethodInvoker asyncInvoker) {
+        return new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector")
+            .addHandlers(asyncInvoker)
+            .create();
+    }
+}
@@ -0,0 +1,73 @@
+package ch.jalu.injector.handlers.predestroy;
+
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.samples.DestroyableClasses.ChildResource;
+import ch.jalu.injector.samples.DestroyableClasses.DestructionLog;
+import ch.jalu.injector.samples.DestroyableClasses.MultiplePreDestroyMethods;
+import ch.jalu.injector.samples.DestroyableClasses.PreDestroyWithParameter;
+import ch.jalu.injector.samples.DestroyableClasses.PreDestroyWithReturnValue;
+import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.utils.ReflectionUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PreDestroyMethodInvoker}.
+ */
+public class PreDestroyMethodInvokerTest {
+
+    private PreDestroyMethodInvoker preDestroyInvoker = new PreDestroyMethodInvoker();
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldRunPreDestroyMethodsOfChildFirst() throws NoSuchFieldException {
+        // given
+        DestructionLog log = new DestructionLog();
+        ChildResource childResource = new ChildResource();
+        ReflectionUtils.setField(ChildResource.class.getSuperclass().getDeclaredField("log"), childResource, log);
+
+        // when
+        preDestroyInvoker.preDestroy(childResource);
+
+        // then
+        assertThat(log.getDestroyedClasses(), contains("Child", "Parent"));
+    }
+
+    @Test
+    public void shouldCacheClassWithoutPreDestroyMethods() {
+        // given / when
+        preDestroyInvoker.preDestroy(new ProvidedClass(""));
+
+        // then
+        assertThat(preDestroyInvoker.preDestroyMethodsByClass.get(ProvidedClass.class), empty());
+    }
+
+    @Test
+    public void shouldThrowForMultiplePreDestroyMethods() {
+        // given / when / then
+        exceptionCatcher.expect("Multiple methods with @PreDestroy");
+        preDestroyInvoker.preDestroy(new MultiplePreDestroyMethods());
+    }
+
+    @Test
+    public void shouldThrowForPreDestroyMethodWithParameter() {
+        // given / when / then
+        exceptionCatcher.expect("may not be static or have any parameters");
+        preDestroyInvoker.preDestroy(new PreDestroyWithParameter());
+    }
+
+    @Test
+    public void shouldThrowForPreDestroyMethodWithReturnValue() {
+        // given / when / then
+        exceptionCatcher.expect("must have return type void");
+        preDestroyInvoker.preDestroy(new PreDestroyWithReturnValue());
+    }
+}
@@ -0,0 +1,115 @@
+package ch.jalu.injector.lifecycle;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.samples.DestroyableClasses.Application;
+import ch.jalu.injector.samples.DestroyableClasses.Database;
+import ch.jalu.injector.samples.DestroyableClasses.DestructionLog;
+import ch.jalu.injector.samples.DestroyableClasses.FailingResource;
+import ch.jalu.injector.samples.DestroyableClasses.MailService;
+import ch.jalu.injector.samples.DestroyableClasses.SlowResource;
+import ch.jalu.injector.samples.DestroyableClasses.UserRepository;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link SingletonDestroyer} and {@link Injector#close()}.
+ */
+public class SingletonDestroyerTest {
+
+    @Test
+    public void shouldComputeWavesInReverseDependencyOrder() {
+        // given
+        Injector injector = createInjector();
+        injector.register(String.class, "registered object");
+        injector.getSingleton(Application.class);
+        SingletonDestroyer destroyer = new SingletonDestroyer(injector, Executors.newSingleThreadExecutor());
+
+        // when
+        List<List<BindingKey>> waves = destroyer.computeWaves();
+
+        // then
+        assertThat(waves, hasSize(4));
+        assertThat(waves.get(0), contains(BindingKey.of(Application.class)));
+        assertThat(waves.get(1), contains(BindingKey.of(UserRepository.class)));
+        assertThat(waves.get(2), containsInAnyOrder(BindingKey.of(Database.class), BindingKey.of(MailService.class)));
+        assertThat(waves.get(3), contains(BindingKey.of(DestructionLog.class)));
+    }
+
+    @Test
+    public void shouldDestroySingletonsOnClose() {
+        // given
+        Injector injector = createInjector();
+        injector.getSingleton(Application.class);
+        DestructionLog log = injector.getSingleton(DestructionLog.class);
+
+        // when
+        injector.close();
+        injector.close();
+
+        // then
+        List<String> destroyedClasses = log.getDestroyedClasses();
+        assertThat(destroyedClasses, containsInAnyOrder("UserRepository", "Database", "MailService"));
+        assertThat(destroyedClasses.indexOf("UserRepository"), lessThan(destroyedClasses.indexOf("Database")));
+    }
+
+    @Test
+    public void shouldDestroyRemainingSingletonsAndThrowForFailure() {
+        // given
+        Injector injector = createInjector();
+        injector.getSingleton(FailingResource.class);
+        injector.getSingleton(Application.class);
+        DestructionLog log = injector.getSingleton(DestructionLog.class);
+
+        // when
+        try {
+            injector.close();
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // then
+            assertThat(e.getMessage(), containsString("Failed to destroy 1 singleton(s)"));
+            assertThat(e.getCause().getCause().getCause().getMessage(), equalTo("Could not close resource"));
+            assertThat(log.getDestroyedClasses(), hasSize(3));
+        }
+    }
+
+    @Test
+    public void shouldThrowAfterDeadline() {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector")
+            .setShutdownTimeout(50, TimeUnit.MILLISECONDS)
+            .create();
+        injector.getSingleton(SlowResource.class);
+        long start = System.nanoTime();
+
+        // when
+        try {
+            injector.close();
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // then
+            assertThat(e.getMessage(), containsString("before the deadline"));
+            assertThat(e.getMessage(), containsString(SlowResource.class.getName()));
+            assertThat(System.nanoTime() - start, lessThan(TimeUnit.SECONDS.toNanos(2)));
+        }
+    }
+
+    private static Injector createInjector() {
+        return new InjectorBuilder().addDefaultHandlers("ch.jalu.injector").create();
+    }
+}
@@ -0,0 +1,170 @@
+package ch.jalu.injector.lifecycle;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.BindingKey;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.samples.Reloadable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link SingletonRefresher}.
+ */
+public class SingletonRefresherTest {
+
+    private Injector injector;
+    private ExecutorService executor;
+
+    @Before
+    public void setUpInjector() {
+        injector = new InjectorBuilder().addDefaultHandlers("ch.jalu.injector").create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+        injector.getSingleton(BetaManager.class);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRefreshSingletonsInDependencyOrder() {
+        // given
+        SingletonRefresher refresher = new SingletonRefresher(injector, executor);
+        List<Reloadable> reloadedSingletons = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        RefreshResult result = refresher.refresh(Reloadable.class, reloadedSingletons::add);
+
+        // then
+        // GammaService depends on ProvidedClass via AlphaService, which is not Reloadable
+        assertThat(result.getWaves(), contains(
+            Collections.singletonList(BindingKey.of(ProvidedClass.class)),
+            Collections.singletonList(BindingKey.of(GammaService.class))));
+        assertThat(reloadedSingletons, contains(
+            injector.getIfAvailable(ProvidedClass.class), injector.getIfAvailable(GammaService.class)));
+        assertThat(result.getNanos(ProvidedClass.class), not(nullValue()));
+        assertThat(result.getNanos(GammaService.class), not(nullValue()));
+        assertThat(result.getNanos(AlphaService.class), nullValue());
+    }
+
+    @Test
+    public void shouldProcessIndependentSingletonsInParallel() {
+        // given
+        SingletonRefresher refresher = new SingletonRefresher(injector, executor);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        // when
+        RefreshResult result = refresher.refresh(Object.class, singleton -> {
+            if (singleton instanceof Injector || singleton instanceof ProvidedClass) {
+                // Both singletons are in the first wave: this only finishes if they're processed concurrently
+                latch.countDown();
+                awaitLatch(latch);
+            }
+        });
+
+        // then
+        assertThat(result.getWaves().get(0),
+            containsInAnyOrder(BindingKey.of(Injector.class), BindingKey.of(ProvidedClass.class)));
+        assertThat(result.getWaves().get(1), contains(BindingKey.of(AlphaService.class)));
+        assertThat(result.getWaves().get(2), contains(BindingKey.of(GammaService.class)));
+        assertThat(result.getWaves().get(3), contains(BindingKey.of(BetaManager.class)));
+        assertThat(result.getNanosByKey().keySet(), containsInAnyOrder(BindingKey.of(Injector.class),
+            BindingKey.of(ProvidedClass.class), BindingKey.of(AlphaService.class), BindingKey.of(GammaService.class),
+            BindingKey.of(BetaManager.class)));
+    }
+
+    @Test
+    public void shouldProcessInstanceOnlyOnce() {
+        // given
+        AlphaService alphaService = injector.getSingleton(AlphaService.class);
+        injector.register(Object.class, alphaService);
+        SingletonRefresher refresher = new SingletonRefresher(injector, executor);
+        List<Object> processedSingletons = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        refresher.refresh(AlphaService.class, processedSingletons::add);
+
+        // then
+        assertThat(processedSingletons, contains(sameInstance(alphaService)));
+    }
+
+    @Test
+    public void shouldStopAfterFailingWave() {
+        // given
+        SingletonRefresher refresher = new SingletonRefresher(injector, executor);
+        List<Object> processedSingletons = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        try {
+            refresher.refresh(Object.class, singleton -> {
+                processedSingletons.add(singleton);
+                if (singleton instanceof ProvidedClass) {
+                    throw new IllegalStateException("Reload failure");
+                }
+            });
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // then
+            assertThat(e.getMessage(), containsString("Failed to refresh singletons"));
+            assertThat(e.getCause().getMessage(), equalTo("Reload failure"));
+            assertThat(processedSingletons, containsInAnyOrder(
+                Arrays.asList(sameInstance(injector), sameInstance(injector.getIfAvailable(ProvidedClass.class)))));
+        }
+    }
+
+    @Test
+    public void shouldWrapExceptionOfSingleSingletonWave() {
+        // given
+        SingletonRefresher refresher = new SingletonRefresher(injector, executor);
+
+        // when
+        try {
+            refresher.refresh(GammaService.class, singleton -> {
+                throw new IllegalStateException("Reload failure");
+            });
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // then
+            assertThat(e.getMessage(), containsString("Failed to refresh singletons"));
+            assertThat(e.getCause().getMessage(), equalTo("Reload failure"));
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Singletons were not processed in parallel");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
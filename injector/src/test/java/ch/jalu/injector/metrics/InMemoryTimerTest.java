@@ -0,0 +1,55 @@
+package ch.jalu.injector.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link InMemoryTimer}.
+ */
+public class InMemoryTimerTest {
+
+    @Test
+    public void shouldRecordDurations() {
+        // given
+        InMemoryTimer timer = new InMemoryMetricsRegistry().timer("test", Object.class);
+
+        // when
+        timer.record(0);
+        timer.record(1);
+        timer.record(100);
+        timer.record(1000);
+        timer.record(-5);
+
+        // then
+        assertThat(timer.getCount(), equalTo(5L));
+        assertThat(timer.getTotalNanos(), equalTo(1101L));
+        assertThat(timer.getMaxNanos(), equalTo(1000L));
+        assertThat(timer.getMeanNanos(), closeTo(220.2, 0.001));
+
+        long[] histogram = timer.getHistogram();
+        assertThat(histogram[0], equalTo(2L));
+        assertThat(histogram[1], equalTo(1L));
+        assertThat(histogram[7], equalTo(1L));  // 64 <= 100 < 128
+        assertThat(histogram[10], equalTo(1L)); // 512 <= 1000 < 1024
+    }
+
+    @Test
+    public void shouldEstimatePercentiles() {
+        // given
+        InMemoryTimer timer = new InMemoryMetricsRegistry().timer("test", Object.class);
+        for (int i = 0; i < 99; ++i) {
+            timer.record(100);
+        }
+        timer.record(5000);
+
+        // when / then
+        assertThat(timer.getPercentileUpperBound(0.5), equalTo(127L));
+        assertThat(timer.getPercentileUpperBound(0.99), equalTo(127L));
+        assertThat(timer.getPercentileUpperBound(1.0), equalTo(5000L));
+        assertThat(new InMemoryMetricsRegistry().timer("test", Object.class).getPercentileUpperBound(0.5),
+            equalTo(0L));
+    }
+}
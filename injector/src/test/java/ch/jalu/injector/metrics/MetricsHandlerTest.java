@@ -0,0 +1,78 @@
+package ch.jalu.injector.metrics;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link MetricsHandler}.
+ */
+public class MetricsHandlerTest {
+
+    private InMemoryMetricsRegistry registry;
+    private Injector injector;
+
+    @Before
+    public void initInjector() {
+        registry = new InMemoryMetricsRegistry();
+        injector = new InjectorBuilder()
+            .addHandlers(new MetricsHandler(registry))
+            .addDefaultHandlers("ch.jalu.injector.samples")
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+    }
+
+    @Test
+    public void shouldRecordSingletonCreations() {
+        // given / when
+        injector.getSingleton(BetaManager.class);
+        injector.getSingleton(BetaManager.class);
+        injector.getSingleton(AlphaService.class);
+
+        // then
+        assertThat(registry.getTimers(MetricsHandler.SINGLETON_CREATION).get(BetaManager.class).getCount(),
+            equalTo(1L));
+        assertThat(registry.getTimers(MetricsHandler.SINGLETON_CREATION).get(AlphaService.class).getCount(),
+            equalTo(1L));
+        assertThat(registry.getTimers(MetricsHandler.SINGLETON_CREATION).get(GammaService.class).getCount(),
+            equalTo(1L));
+        assertThat(registry.getTimers(MetricsHandler.INSTANCE_CREATION).entrySet().isEmpty(), equalTo(true));
+        assertThat(registry.getCounters(MetricsHandler.RESOLUTIONS).get(BetaManager.class).getCount(), equalTo(1L));
+        assertThat(registry.getCounters(MetricsHandler.RESOLUTIONS), not(hasKey(ProvidedClass.class)));
+    }
+
+    @Test
+    public void shouldRecordNewInstancesAndProviderCalls() {
+        // given
+        Provider<GammaService> provider = injector.getProvider(GammaService.class);
+
+        // when
+        injector.newInstance(AlphaService.class);
+        injector.newInstance(AlphaService.class);
+        provider.get();
+        provider.get();
+        provider.get();
+
+        // then
+        InMemoryTimer alphaTimer = registry.getTimers(MetricsHandler.INSTANCE_CREATION).get(AlphaService.class);
+        assertThat(alphaTimer.getCount(), equalTo(2L));
+        assertThat(alphaTimer.getMaxNanos() <= alphaTimer.getTotalNanos(), equalTo(true));
+        assertThat(registry.getTimers(MetricsHandler.INSTANCE_CREATION).get(GammaService.class).getCount(),
+            equalTo(3L));
+        // The provider only resolves the class on its first call
+        assertThat(registry.getCounters(MetricsHandler.RESOLUTIONS).get(GammaService.class).getCount(),
+            equalTo(1L));
+    }
+}
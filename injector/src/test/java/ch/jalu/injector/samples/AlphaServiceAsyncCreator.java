@@ -0,0 +1,19 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.factory.AsyncProvider;
+
+import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sample class with an injected {@link AsyncProvider}.
+ */
+public class AlphaServiceAsyncCreator {
+
+    @Inject
+    private AsyncProvider<AlphaService> alphaServiceProvider;
+
+    public CompletableFuture<AlphaService> createAlphaService() {
+        return alphaServiceProvider.getAsync();
+    }
+}
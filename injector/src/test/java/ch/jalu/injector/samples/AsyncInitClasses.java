@@ -0,0 +1,136 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.annotations.AsyncPostConstruct;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sample classes with {@link AsyncPostConstruct} methods.
+ */
+public abstract class AsyncInitClasses {
+
+    private AsyncInitClasses() {
+    }
+
+    /** Blocks the initialization of {@link IndexLoader} until it is opened. */
+    public static final class InitGate {
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        public void open() {
+            latch.countDown();
+        }
+
+        void await() throws InterruptedException {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Gate was not opened");
+            }
+        }
+    }
+
+    public static final class IndexLoader {
+        @Inject
+        private InitGate gate;
+        private volatile boolean loaded;
+
+        @AsyncPostConstruct
+        public void loadIndex() throws InterruptedException {
+            gate.await();
+            loaded = true;
+        }
+
+        public boolean isLoaded() {
+            return loaded;
+        }
+    }
+
+    public static final class SearchService {
+        @Inject
+        private IndexLoader indexLoader;
+        private volatile boolean ready;
+
+        @AsyncPostConstruct
+        private CompletableFuture<Void> warmUp() {
+            if (!indexLoader.isLoaded()) {
+                throw new IllegalStateException("Index should have been loaded");
+            }
+            return CompletableFuture.runAsync(() -> ready = true);
+        }
+
+        public boolean isReady() {
+            return ready;
+        }
+    }
+
+    /** Initializes after a qualified {@link IndexLoader}. */
+    public static final class QualifiedSearchService {
+        @Inject
+        @Named("primary")
+        private IndexLoader indexLoader;
+        private volatile boolean ready;
+
+        @AsyncPostConstruct
+        public void warmUp() {
+            if (!indexLoader.isLoaded()) {
+                throw new IllegalStateException("Index should have been loaded");
+            }
+            ready = true;
+        }
+
+        public boolean isReady() {
+            return ready;
+        }
+    }
+
+    /** Requests a singleton which has not been created yet from its asynchronous initialization. */
+    public static final class LazyRequester {
+        @Inject
+        private Injector injector;
+        private volatile IndexLoader requestedLoader;
+
+        @AsyncPostConstruct
+        public void requestLoader() {
+            injector.getSingleton(InitGate.class).open();
+            requestedLoader = injector.getSingleton(IndexLoader.class);
+        }
+
+        public IndexLoader getRequestedLoader() {
+            return requestedLoader;
+        }
+    }
+
+    /** Requests a singleton with an asynchronous initialization from its post construct method. */
+    public static final class PostConstructRequester {
+        @Inject
+        private Injector injector;
+        private LazyRequester requester;
+
+        @PostConstruct
+        public void requestLazyRequester() {
+            requester = injector.getSingleton(LazyRequester.class);
+        }
+
+        public LazyRequester getRequester() {
+            return requester;
+        }
+    }
+
+    public static final class FailingLoader {
+        @AsyncPostConstruct
+        public void load() {
+            throw new IllegalStateException("Could not load");
+        }
+    }
+
+    public static final class InvalidReturnType {
+        @AsyncPostConstruct
+        public String load() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ch.jalu.injector.samples;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+/**
+ * Sample class with a configuration value of a type without a default converter.
+ */
+public class ConfiguredClient {
+
+    private final Endpoint endpoint;
+
+    @Inject
+    ConfiguredClient(@Named("client.endpoint") Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Endpoint, which can only be created from a configuration value with a converter.
+     */
+    public static final class Endpoint {
+
+        private final String url;
+
+        @Inject
+        Endpoint() {
+            throw new IllegalStateException("Endpoint must be configured");
+        }
+
+        public Endpoint(String url) {
+            this.url = url;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+    }
+}
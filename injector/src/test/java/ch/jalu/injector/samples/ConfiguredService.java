@@ -0,0 +1,49 @@
+package ch.jalu.injector.samples;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sample class with configuration values.
+ */
+public class ConfiguredService {
+
+    private final String name;
+    private final int port;
+    private final Duration timeout;
+    private final TimeUnit unit;
+    private final Long cacheSize;
+
+    @Inject
+    ConfiguredService(@Named("server.name") String name, @Named("server.port") int port,
+                      @Named("server.timeout") Duration timeout, @Named("server.unit") TimeUnit unit,
+                      @Size("cache.size") Long cacheSize) {
+        this.name = name;
+        this.port = port;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.cacheSize = cacheSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    public Long getCacheSize() {
+        return cacheSize;
+    }
+}
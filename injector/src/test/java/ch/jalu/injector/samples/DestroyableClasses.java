@@ -0,0 +1,122 @@
+package ch.jalu.injector.samples;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sample classes with {@link PreDestroy} methods.
+ */
+public abstract class DestroyableClasses {
+
+    private DestroyableClasses() {
+    }
+
+    /** Keeps track of the destroyed classes. */
+    public static final class DestructionLog {
+        private final List<String> destroyedClasses = Collections.synchronizedList(new ArrayList<>());
+
+        public void add(String name) {
+            destroyedClasses.add(name);
+        }
+
+        public List<String> getDestroyedClasses() {
+            return destroyedClasses;
+        }
+    }
+
+    public static final class Database {
+        @Inject
+        private DestructionLog log;
+
+        @PreDestroy
+        public void close() {
+            log.add("Database");
+        }
+    }
+
+    public static final class UserRepository {
+        @Inject
+        private Database database;
+        @Inject
+        private DestructionLog log;
+
+        @PreDestroy
+        private void close() {
+            log.add("UserRepository");
+        }
+    }
+
+    public static final class MailService {
+        @Inject
+        private DestructionLog log;
+
+        @PreDestroy
+        public void shutdown() {
+            log.add("MailService");
+        }
+    }
+
+    public static final class Application {
+        @Inject
+        private UserRepository userRepository;
+        @Inject
+        private MailService mailService;
+    }
+
+    public static final class SlowResource {
+        @PreDestroy
+        public void close() throws InterruptedException {
+            Thread.sleep(3000);
+        }
+    }
+
+    public static final class FailingResource {
+        @PreDestroy
+        public void close() {
+            throw new IllegalStateException("Could not close resource");
+        }
+    }
+
+    public static class ParentResource {
+        @Inject
+        protected DestructionLog log;
+
+        @PreDestroy
+        public void closeParent() {
+            log.add("Parent");
+        }
+    }
+
+    public static final class ChildResource extends ParentResource {
+        @PreDestroy
+        public void closeChild() {
+            log.add("Child");
+        }
+    }
+
+    public static final class MultiplePreDestroyMethods {
+        @PreDestroy
+        public void close1() {
+        }
+
+        @PreDestroy
+        public void close2() {
+        }
+    }
+
+    public static final class PreDestroyWithParameter {
+        @PreDestroy
+        public void close(boolean force) {
+        }
+    }
+
+    public static final class PreDestroyWithReturnValue {
+        @PreDestroy
+        public int close() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ch.jalu.injector.samples;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+/**
+ * Sample classes with dependencies of generic types.
+ */
+public abstract class GenericClasses {
+
+    private GenericClasses() {
+    }
+
+    public static final class Cache<T> {
+        private boolean destroyed;
+
+        @PreDestroy
+        public void destroy() {
+            destroyed = true;
+        }
+
+        public boolean isDestroyed() {
+            return destroyed;
+        }
+    }
+
+    public static final class CacheConsumer {
+        @Inject
+        private Cache<AlphaService> alphaCache;
+        @Inject
+        private Cache<GammaService> gammaCache;
+
+        public Cache<AlphaService> getAlphaCache() {
+            return alphaCache;
+        }
+
+        public Cache<GammaService> getGammaCache() {
+            return gammaCache;
+        }
+    }
+
+    public static final class OtherCacheConsumer {
+        @Inject
+        private Cache<AlphaService> alphaCache;
+
+        public Cache<AlphaService> getAlphaCache() {
+            return alphaCache;
+        }
+    }
+}
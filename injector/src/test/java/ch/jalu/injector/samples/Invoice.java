@@ -0,0 +1,34 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.annotations.Assisted;
+
+import javax.inject.Inject;
+
+/**
+ * Sample - class with assisted constructor parameters.
+ */
+public class Invoice {
+
+    private final String customer;
+    private final AlphaService alphaService;
+    private final int amount;
+
+    @Inject
+    Invoice(@Assisted String customer, AlphaService alphaService, @Assisted int amount) {
+        this.customer = customer;
+        this.alphaService = alphaService;
+        this.amount = amount;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public AlphaService getAlphaService() {
+        return alphaService;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+}
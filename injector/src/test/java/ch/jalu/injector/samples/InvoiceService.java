@@ -0,0 +1,18 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.factory.AssistedFactory;
+
+import javax.inject.Inject;
+
+/**
+ * Sample - class with an injected assisted factory.
+ */
+public class InvoiceService {
+
+    @Inject
+    private AssistedFactory<Invoice> invoiceFactory;
+
+    public Invoice createInvoice(String customer, int amount) {
+        return invoiceFactory.create(customer, amount);
+    }
+}
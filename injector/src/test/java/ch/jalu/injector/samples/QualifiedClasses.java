@@ -0,0 +1,47 @@
+package ch.jalu.injector.samples;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+/**
+ * Sample classes with dependencies distinguished by {@link javax.inject.Qualifier qualifiers}.
+ */
+public abstract class QualifiedClasses {
+
+    private QualifiedClasses() {
+    }
+
+    public interface Storage {
+        String getName();
+    }
+
+    public static final class NamedStorage implements Storage {
+        private final String name;
+
+        public NamedStorage(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static final class StorageConsumer {
+        @Inject
+        @Named("primary")
+        private Storage primaryStorage;
+        @Inject
+        @Named("backup")
+        private Storage backupStorage;
+
+        public Storage getPrimaryStorage() {
+            return primaryStorage;
+        }
+
+        public Storage getBackupStorage() {
+            return backupStorage;
+        }
+    }
+}
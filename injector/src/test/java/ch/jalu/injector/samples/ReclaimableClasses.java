@@ -0,0 +1,43 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.annotations.Reclaimable;
+
+import javax.inject.Inject;
+
+/**
+ * Sample classes with {@link Reclaimable}.
+ */
+public abstract class ReclaimableClasses {
+
+    private ReclaimableClasses() {
+    }
+
+    @Reclaimable(Reclaimable.Strength.WEAK)
+    public static final class WeakCache {
+        private final long[] data = new long[1024];
+
+        public long[] getData() {
+            return data;
+        }
+    }
+
+    /** Uses a weak cache on construction without keeping a reference to it. */
+    public static final class WeakCacheUser {
+        private final int dataLength;
+
+        @Inject
+        WeakCacheUser(WeakCache weakCache) {
+            this.dataLength = weakCache.getData().length;
+        }
+
+        public int getDataLength() {
+            return dataLength;
+        }
+    }
+
+    @Reclaimable
+    public static final class SoftCache {
+        @Inject
+        private AlphaService alphaService;
+    }
+}
@@ -0,0 +1,39 @@
+package ch.jalu.injector.testing;
+
+import org.junit.Test;
+import org.junit.experimental.ParallelComputer;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Runs test classes using the {@link DelayedInjectionRunner} in parallel.
+ */
+public class DelayedInjectionRunnerParallelTest {
+
+    private static final int TIMES_PER_CLASS = 20;
+
+    @Test
+    public void shouldRunTestClassesInParallel() {
+        // given
+        Class<?>[] classes = Collections.nCopies(TIMES_PER_CLASS, Arrays.asList(
+            DelayedInjectionRunnerIntegrationTest.class, MultipleDelayedInjectRunnerIntegrationTest.class))
+            .stream()
+            .flatMap(List::stream)
+            .toArray(Class<?>[]::new);
+
+        // when
+        Result result = JUnitCore.runClasses(new ParallelComputer(true, true), classes);
+
+        // then
+        assertThat(result.getFailures(), empty());
+        assertThat(result.getRunCount(), equalTo(2 * TIMES_PER_CLASS));
+    }
+}
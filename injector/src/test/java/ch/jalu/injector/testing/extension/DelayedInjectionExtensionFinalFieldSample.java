@@ -0,0 +1,23 @@
+package ch.jalu.injector.testing.extension;
+
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.testing.DelayedInjectionExtension;
+import ch.jalu.injector.testing.InjectDelayed;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * JUnit 5 sample test class with a forbidden final {@link InjectDelayed} field. Run by
+ * {@link DelayedInjectionExtensionTest}.
+ */
+@ExtendWith(DelayedInjectionExtension.class)
+public class DelayedInjectionExtensionFinalFieldSample {
+
+    @InjectDelayed
+    private final BetaManager betaManager = null;
+
+    @Test
+    public void shouldNotBeRun() {
+        // never run: @InjectDelayed fields may not be final
+    }
+}
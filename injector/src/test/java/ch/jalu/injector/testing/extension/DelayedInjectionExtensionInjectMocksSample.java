@@ -0,0 +1,23 @@
+package ch.jalu.injector.testing.extension;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.testing.DelayedInjectionExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+
+/**
+ * JUnit 5 sample test class with a forbidden {@link InjectMocks} field. Run by
+ * {@link DelayedInjectionExtensionTest}.
+ */
+@ExtendWith(DelayedInjectionExtension.class)
+public class DelayedInjectionExtensionInjectMocksSample {
+
+    @InjectMocks
+    private AlphaService alphaService;
+
+    @Test
+    public void shouldNotBeRun() {
+        // never run: @InjectMocks is not allowed
+    }
+}
@@ -0,0 +1,50 @@
+package ch.jalu.injector.testing.extension;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.testing.DelayedInjectionExtension;
+import ch.jalu.injector.testing.InjectDelayed;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * JUnit 5 sample test class with a per-class lifecycle. Run by {@link DelayedInjectionExtensionTest}.
+ */
+@ExtendWith(DelayedInjectionExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DelayedInjectionExtensionPerClassSample {
+
+    private final Set<GammaService> injectedServices = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @InjectDelayed
+    private GammaService gammaService;
+
+    @Mock
+    private AlphaService alphaService;
+
+    @Test
+    public void shouldInjectFieldForFirstTest() {
+        verifyNewServiceWasInjected();
+    }
+
+    @Test
+    public void shouldInjectFieldForSecondTest() {
+        verifyNewServiceWasInjected();
+    }
+
+    private void verifyNewServiceWasInjected() {
+        assertThat(gammaService, not(nullValue()));
+        assertThat(injectedServices.add(gammaService), equalTo(true));
+    }
+}
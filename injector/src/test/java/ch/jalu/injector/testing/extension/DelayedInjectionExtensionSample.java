@@ -0,0 +1,77 @@
+package ch.jalu.injector.testing.extension;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.ClassWithAbstractDependency;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.testing.BeforeInjecting;
+import ch.jalu.injector.testing.CustomAnnotation;
+import ch.jalu.injector.testing.DelayedInjectionExtension;
+import ch.jalu.injector.testing.InjectDelayed;
+import ch.jalu.injector.testing.SampleInjectClass;
+import ch.jalu.injector.utils.InjectorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * JUnit 5 sample test class using {@link DelayedInjectionExtension}. Run by {@link DelayedInjectionExtensionTest}.
+ */
+@ExtendWith(DelayedInjectionExtension.class)
+public class DelayedInjectionExtensionSample {
+
+    @InjectDelayed
+    private GammaService gammaService;
+
+    @InjectDelayed
+    private BetaManager betaManager;
+
+    @InjectDelayed
+    private SampleInjectClass sampleInjectClass;
+
+    @Mock
+    private ProvidedClass providedClass;
+
+    @Mock
+    private AlphaService alphaService;
+
+    @Mock
+    private ClassWithAbstractDependency.AbstractDependency abstractDependency;
+
+    @CustomAnnotation
+    private String name = "Hello";
+
+    @BeforeInjecting
+    public void beforeInjecting() {
+        if (betaManager != null || gammaService != null || sampleInjectClass != null) {
+            throw new IllegalStateException("Field with @InjectDelayed is not null in @BeforeInjecting method");
+        }
+        InjectorUtils.checkNoNullValues(alphaService, providedClass, abstractDependency);
+        given(alphaService.getProvidedClass()).willReturn(providedClass);
+    }
+
+    @BeforeEach
+    public void before() {
+        InjectorUtils.checkNoNullValues(gammaService, betaManager, providedClass, alphaService, sampleInjectClass);
+    }
+
+    @Test
+    public void shouldSetUpProperly() {
+        assertThat(sampleInjectClass.getStringField(), equalTo(name));
+        assertThat(sampleInjectClass.getProvidedClass(), sameInstance(providedClass));
+        assertThat(betaManager.getDependencies()[1], sameInstance(gammaService));
+    }
+
+    @Test
+    public void shouldHaveNewInstancesForEachTest() {
+        assertThat(sampleInjectClass.getAlphaService(), sameInstance(alphaService));
+        assertThat(sampleInjectClass.getAbstractDependency(), sameInstance(abstractDependency));
+    }
+}
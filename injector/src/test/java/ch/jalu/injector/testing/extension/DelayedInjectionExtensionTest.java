@@ -0,0 +1,72 @@
+package ch.jalu.injector.testing.extension;
+
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.testing.DelayedInjectionExtension;
+import org.junit.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+/**
+ * Test for {@link DelayedInjectionExtension}: runs JUnit 5 sample classes with the Jupiter engine.
+ */
+public class DelayedInjectionExtensionTest {
+
+    @Test
+    public void shouldRunTestsWithExtension() {
+        // given / when
+        Events events = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(DelayedInjectionExtensionSample.class))
+            .execute()
+            .testEvents();
+
+        // then
+        events.assertStatistics(stats -> stats.started(2).succeeded(2).failed(0));
+    }
+
+    @Test
+    public void shouldFailForInjectMocksField() {
+        // given / when
+        Events events = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(DelayedInjectionExtensionInjectMocksSample.class))
+            .execute()
+            .containerEvents();
+
+        // then
+        events.assertThatEvents().haveExactly(1, event(
+            container(DelayedInjectionExtensionInjectMocksSample.class),
+            finishedWithFailure(instanceOf(InjectorException.class), message(m -> m.contains("@InjectMocks")))));
+    }
+
+    @Test
+    public void shouldInjectFieldsForEachTestWithPerClassLifecycle() {
+        // given / when
+        Events events = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(DelayedInjectionExtensionPerClassSample.class))
+            .execute()
+            .testEvents();
+
+        // then
+        events.assertStatistics(stats -> stats.started(2).succeeded(2).failed(0));
+    }
+
+    @Test
+    public void shouldFailForFinalInjectDelayedField() {
+        // given / when
+        Events events = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(DelayedInjectionExtensionFinalFieldSample.class))
+            .execute()
+            .containerEvents();
+
+        // then
+        events.assertThatEvents().haveExactly(1, event(
+            container(DelayedInjectionExtensionFinalFieldSample.class),
+            finishedWithFailure(instanceOf(InjectorException.class), message(m -> m.contains("may not be final")))));
+    }
+}
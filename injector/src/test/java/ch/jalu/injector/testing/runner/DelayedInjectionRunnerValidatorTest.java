@@ -30,14 +30,15 @@ public class DelayedInjectionRunnerValidatorTest {
         RunNotifier notifier = mock(RunNotifier.class);
         TestClass testClass = new TestClass(DelayedInjectionRunnerIntegrationTest.class);
         DelayedInjectionRunnerValidator validator = new DelayedInjectionRunnerValidator(notifier, testClass);
-        Description description = mock(Description.class);
+        Description description =
+            Description.createTestDescription(DelayedInjectionRunnerIntegrationTest.class, "shouldHaveInjectedProperly");
 
         // when
         validator.testFinished(description);
 
         // then
         // nothing happens: successful validation
-        verifyZeroInteractions(notifier, description);
+        verifyZeroInteractions(notifier);
     }
 
     @Test
@@ -46,7 +47,7 @@ public class DelayedInjectionRunnerValidatorTest {
         RunNotifier notifier = mock(RunNotifier.class);
         TestClass testClass = new TestClass(getClass());
         DelayedInjectionRunnerValidator validator = new DelayedInjectionRunnerValidator(notifier, testClass);
-        Description description = mock(Description.class);
+        Description description = Description.createTestDescription(getClass(), "test");
 
         // when
         validator.testFinished(description);
@@ -58,4 +59,19 @@ public class DelayedInjectionRunnerValidatorTest {
         assertThat(failure.getMessage(), containsString("Do not use @InjectMocks"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldIgnoreTestsOfOtherClasses() throws Exception {
+        // given
+        RunNotifier notifier = mock(RunNotifier.class);
+        TestClass testClass = new TestClass(getClass());
+        DelayedInjectionRunnerValidator validator = new DelayedInjectionRunnerValidator(notifier, testClass);
+        Description description =
+            Description.createTestDescription(DelayedInjectionRunnerIntegrationTest.class, "shouldHaveInjectedProperly");
+
+        // when
+        validator.testFinished(description);
+
+        // then
+        verifyZeroInteractions(notifier);
+    }
+}
@@ -1,5 +1,7 @@
 package ch.jalu.injector.testing.runner;
 
+import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
+import ch.jalu.injector.handlers.instantiation.Resolution;
 import ch.jalu.injector.testing.DelayedInjectionRunnerIntegrationTest;
 import ch.jalu.injector.testing.InjectDelayed;
 import ch.jalu.injector.testing.SampleInjectClass;
@@ -10,12 +12,15 @@ import org.junit.runners.model.Statement;
 import org.junit.runners.model.TestClass;
 import org.mockito.MockitoAnnotations;
 
+import java.lang.reflect.Field;
 import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -69,4 +74,57 @@ public class RunDelayedInjectsTest {
             assertThat(e.getMessage(), containsString("Field with @InjectDelayed must be null"));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldShareResolutionsBetweenTests() throws Throwable {
+        // given
+        RunDelayedInjects runDelayedInjects1 = createRunDelayedInjects();
+        RunDelayedInjects runDelayedInjects2 = createRunDelayedInjects();
+
+        // when
+        DefaultInjectionProvider provider1 = getDefaultInjectionProvider(runDelayedInjects1);
+        DefaultInjectionProvider provider2 = getDefaultInjectionProvider(runDelayedInjects2);
+
+        // then
+        assertThat(provider1, sameInstance(provider2));
+        Resolution<SampleInjectClass> resolution = provider1.safeGet(SampleInjectClass.class);
+        assertThat(resolution.getDependencies(), not(empty()));
+        assertThat(provider2.safeGet(SampleInjectClass.class), sameInstance(resolution));
+    }
+
+    @Test
+    public void shouldUseSeparateInjectorsForEachTest() throws Throwable {
+        // given
+        DelayedInjectionRunnerIntegrationTest runnerTest1 = new DelayedInjectionRunnerIntegrationTest();
+        DelayedInjectionRunnerIntegrationTest runnerTest2 = new DelayedInjectionRunnerIntegrationTest();
+        MockitoAnnotations.initMocks(runnerTest1);
+        MockitoAnnotations.initMocks(runnerTest2);
+        TestClass testClass = new TestClass(DelayedInjectionRunnerIntegrationTest.class);
+        List<FrameworkField> injectDelayedFields = testClass.getAnnotatedFields(InjectDelayed.class);
+        Field field = injectDelayedFields.get(0).getField();
+
+        // when
+        new RunDelayedInjects(mock(Statement.class), testClass, runnerTest1, injectDelayedFields).evaluate();
+        new RunDelayedInjects(mock(Statement.class), testClass, runnerTest2, injectDelayedFields).evaluate();
+
+        // then
+        Object injected1 = ReflectionUtils.getFieldValue(field, runnerTest1);
+        Object injected2 = ReflectionUtils.getFieldValue(field, runnerTest2);
+        assertThat(injected1, not(nullValue()));
+        assertThat(injected2, not(sameInstance(injected1)));
+    }
+
+    private static RunDelayedInjects createRunDelayedInjects() {
+        DelayedInjectionRunnerIntegrationTest runnerTest = new DelayedInjectionRunnerIntegrationTest();
+        TestClass testClass = new TestClass(runnerTest.getClass());
+        return new RunDelayedInjects(mock(Statement.class), testClass, runnerTest,
+            testClass.getAnnotatedFields(InjectDelayed.class));
+    }
+
+    private static DefaultInjectionProvider getDefaultInjectionProvider(RunDelayedInjects runDelayedInjects) {
+        return (DefaultInjectionProvider) runDelayedInjects.createInstantiationProviders().stream()
+            .filter(handler -> handler instanceof DefaultInjectionProvider)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No default injection provider found"));
+    }
+}
@@ -0,0 +1,80 @@
+package ch.jalu.injector.testing.runner;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.ClassWithAbstractDependency;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.testing.CustomAnnotation;
+import ch.jalu.injector.testing.DelayedInjectionRunnerIntegrationTest;
+import ch.jalu.injector.testing.SampleInjectClass;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link TestClassFieldIndex}.
+ */
+public class TestClassFieldIndexTest {
+
+    @Test
+    public void shouldIndexFieldsOfTestClass() {
+        // given / when
+        TestClassFieldIndex index = TestClassFieldIndex.of(DelayedInjectionRunnerIntegrationTest.class);
+
+        // then
+        assertThat(getNames(index.getMockFields()),
+            contains("abstractDependency", "alphaService", "gammaService"));
+        assertThat(getNames(index.getFields(CustomAnnotation.class)),
+            contains("gammaService", "stringFieldSample"));
+        assertThat(index.getFields(Test.class), empty());
+        assertThat(index.getInjectDelayedTypes(), containsInAnyOrder(SampleInjectClass.class));
+        assertThat(index.getMockFields().get(0).isAccessible(), equalTo(true));
+    }
+
+    @Test
+    public void shouldReturnSameIndexForClass() {
+        // given
+        TestClassFieldIndex index = TestClassFieldIndex.of(DelayedInjectionRunnerIntegrationTest.class);
+
+        // when
+        TestClassFieldIndex result = TestClassFieldIndex.of(DelayedInjectionRunnerIntegrationTest.class);
+
+        // then
+        assertThat(result, sameInstance(index));
+    }
+
+    @Test
+    public void shouldReturnAssignableField() {
+        // given
+        TestClassFieldIndex index = TestClassFieldIndex.of(DelayedInjectionRunnerIntegrationTest.class);
+
+        // when
+        Field gammaField = index.getAssignableField(CustomAnnotation.class, GammaService.class);
+        Field charSequenceField = index.getAssignableField(CustomAnnotation.class, CharSequence.class);
+        Field alphaField = index.getAssignableField(CustomAnnotation.class, AlphaService.class);
+        Field dependencyField = index.getAssignableField(CustomAnnotation.class,
+            ClassWithAbstractDependency.AbstractDependency.class);
+        Field unknownAnnotationField = index.getAssignableField(Test.class, GammaService.class);
+
+        // then
+        assertThat(gammaField.getName(), equalTo("gammaService"));
+        assertThat(charSequenceField.getName(), equalTo("stringFieldSample"));
+        assertThat(alphaField, nullValue());
+        assertThat(dependencyField, nullValue());
+        assertThat(unknownAnnotationField, nullValue());
+        assertThat(index.getAssignableField(CustomAnnotation.class, GammaService.class), sameInstance(gammaField));
+    }
+
+    private static List<String> getNames(List<Field> fields) {
+        return fields.stream().map(Field::getName).collect(Collectors.toList());
+    }
+}